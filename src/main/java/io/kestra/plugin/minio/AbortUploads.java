@@ -0,0 +1,102 @@
+package io.kestra.plugin.minio;
+
+import java.time.Duration;
+
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Metric;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.annotations.PluginProperty;
+import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.RunnableTask;
+import io.kestra.core.runners.RunContext;
+
+import io.minio.MinioAsyncClient;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+
+@SuperBuilder
+@ToString
+@EqualsAndHashCode
+@Getter
+@NoArgsConstructor
+@Plugin(
+    examples = {
+        @Example(
+            full = true,
+            code = """
+                id: minio_abort_uploads
+                namespace: company.team
+
+                tasks:
+                  - id: abort_uploads
+                    type: io.kestra.plugin.minio.AbortUploads
+                    accessKeyId: "<access-key>"
+                    secretKeyId: "{{ secret('MINIO_SECRET_KEY_ID') }}"
+                    region: "eu-central-1"
+                    bucket: "my-bucket"
+                    olderThan: P7D
+
+                triggers:
+                  - id: daily
+                    type: io.kestra.plugin.core.trigger.Schedule
+                    cron: "@daily"
+                """
+        )
+    },
+    metrics = {
+        @Metric(
+            name = "count",
+            type = Counter.TYPE,
+            unit = "count",
+            description = "Number of incomplete multipart uploads aborted."
+        )
+    }
+)
+@Schema(
+    title = "Abort stale multipart uploads",
+    description = "Aborts the incomplete multipart uploads of a bucket that were initiated more than `olderThan` ago, " +
+        "such as the ones left by a resumable `Upload` that was never retried. The server then frees their parts."
+)
+public class AbortUploads extends AbstractMinioObject implements RunnableTask<AbortUploads.Output> {
+
+    @Schema(
+        title = "Only abort the uploads of keys starting with this prefix"
+    )
+    @PluginProperty(group = "main")
+    private Property<String> prefix;
+
+    @Schema(
+        title = "The minimum age of an upload to be aborted"
+    )
+    @Builder.Default
+    @PluginProperty(group = "main")
+    private Property<Duration> olderThan = Property.ofValue(Duration.ofDays(7));
+
+    @Override
+    public Output run(RunContext runContext) throws Exception {
+        String bucket = runContext.render(this.bucket).as(String.class).orElseThrow();
+        String rPrefix = runContext.render(this.prefix).as(String.class).orElse(null);
+        Duration rOlderThan = runContext.render(this.olderThan).as(Duration.class).orElseThrow();
+
+        try (MinioAsyncClient client = this.asyncClient(runContext)) {
+            long count = ResumableUpload.abortStale(runContext, client, bucket, rPrefix, rOlderThan);
+
+            runContext.metric(Counter.of("count", count));
+            runContext.logger().info("Aborted {} stale multipart uploads in {}", count, bucket);
+
+            return Output.builder()
+                .count(count)
+                .build();
+        }
+    }
+
+    @Builder
+    @Getter
+    public static class Output implements io.kestra.core.models.tasks.Output {
+        @Schema(title = "The number of multipart uploads aborted")
+        private final long count;
+    }
+
+}
@@ -0,0 +1,709 @@
+package io.kestra.plugin.minio;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+
+import io.kestra.core.http.client.configurations.SslOptions;
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Metric;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.annotations.PluginProperty;
+import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.RunnableTask;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.serializers.FileSerde;
+import io.kestra.plugin.minio.model.MinioObject;
+
+import io.minio.AbortMultipartUploadArgs;
+import io.minio.CompleteMultipartUploadArgs;
+import io.minio.CreateMultipartUploadArgs;
+import io.minio.GetObjectArgs;
+import io.minio.GetObjectResponse;
+import io.minio.GetObjectTagsArgs;
+import io.minio.Http;
+import io.minio.MinioAsyncClient;
+import io.minio.MinioClient;
+import io.minio.ObjectWriteArgs;
+import io.minio.ObjectWriteResponse;
+import io.minio.PutObjectArgs;
+import io.minio.SourceObject;
+import io.minio.UploadPartArgs;
+import io.minio.UploadPartResponse;
+import io.minio.messages.Part;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SynchronousSink;
+import reactor.core.scheduler.Schedulers;
+
+import static io.kestra.core.utils.Rethrow.throwFunction;
+
+@SuperBuilder
+@ToString
+@EqualsAndHashCode
+@Getter
+@NoArgsConstructor
+@Plugin(
+    examples = {
+        @Example(
+            title = "Copy every object under a prefix to another bucket.",
+            full = true,
+            code = """
+                id: minio_copies
+                namespace: company.team
+
+                tasks:
+                  - id: copies
+                    type: io.kestra.plugin.minio.Copies
+                    accessKeyId: "<access-key>"
+                    secretKeyId: "{{ secret('MINIO_SECRET_KEY_ID') }}"
+                    region: "eu-central-1"
+                    bucket: "my-bucket"
+                    prefix: "exports/2024/"
+                    to:
+                      bucket: "my-archive"
+                      prefix: "exports/2024/"
+                    concurrency: 32
+                """
+        ),
+        @Example(
+            title = "Copy the keys of a listing stored on internal storage, keeping the result of each key.",
+            full = true,
+            code = """
+                id: minio_copies_keys
+                namespace: company.team
+
+                tasks:
+                  - id: list_objects
+                    type: io.kestra.plugin.minio.List
+                    accessKeyId: "<access-key>"
+                    secretKeyId: "{{ secret('MINIO_SECRET_KEY_ID') }}"
+                    region: "eu-central-1"
+                    bucket: "my-bucket"
+                    glob: "reports/**/*.csv"
+                    fetchType: STORE
+
+                  - id: copies
+                    type: io.kestra.plugin.minio.Copies
+                    accessKeyId: "<access-key>"
+                    secretKeyId: "{{ secret('MINIO_SECRET_KEY_ID') }}"
+                    region: "eu-central-1"
+                    bucket: "my-bucket"
+                    from: "{{ outputs.list_objects.uri }}"
+                    to:
+                      prefix: "backup/"
+                    storeResults: true
+                """
+        ),
+        @Example(
+            title = "Copy a prefix from an on-premise MinIO to another cluster, streaming the objects through the worker.",
+            full = true,
+            code = """
+                id: minio_copies_cross_cluster
+                namespace: company.team
+
+                tasks:
+                  - id: copies
+                    type: io.kestra.plugin.minio.Copies
+                    endpoint: "https://minio.internal:9000"
+                    accessKeyId: "<access-key>"
+                    secretKeyId: "{{ secret('MINIO_SECRET_KEY_ID') }}"
+                    bucket: "my-bucket"
+                    prefix: "exports/"
+                    to:
+                      bucket: "my-bucket"
+                      connection:
+                        endpoint: "https://s3.eu-central-1.amazonaws.com"
+                        region: "eu-central-1"
+                        accessKeyId: "<other-access-key>"
+                        secretKeyId: "{{ secret('S3_SECRET_KEY_ID') }}"
+                """
+        )
+    },
+    metrics = {
+        @Metric(
+            name = "count",
+            type = Counter.TYPE,
+            unit = "count",
+            description = "The number of objects copied."
+        ),
+        @Metric(
+            name = "size",
+            type = Counter.TYPE,
+            unit = "bytes",
+            description = "The total size of the objects copied."
+        ),
+        @Metric(
+            name = "errors",
+            type = Counter.TYPE,
+            unit = "count",
+            description = "The number of objects that failed to copy."
+        )
+    }
+)
+@Schema(
+    title = "Copy many objects between MinIO buckets",
+    description = "Streams the keys under `prefix`, or the keys listed in a file on internal storage, and copies them server-side " +
+        "to the `to` bucket and prefix, `concurrency` objects at a time over a single connection. " +
+        "Objects larger than `partSize` are copied part by part, as with `Copy`. " +
+        "When `to` has its own `connection`, the objects are instead streamed from one endpoint to the other: " +
+        "each object is read part by part and uploaded while the next parts are read, without going through a disk or internal storage."
+)
+public class Copies extends AbstractMinioObject implements RunnableTask<Copies.Output> {
+
+    @Schema(
+        title = "Copy the keys starting with this prefix",
+        description = "The prefix is replaced by the `to` prefix in the destination keys. " +
+            "When the keys are read from `from`, it is only used to compute the destination keys."
+    )
+    @PluginProperty(group = "source")
+    private Property<String> prefix;
+
+    @Schema(
+        title = "A regexp to filter on full key"
+    )
+    @PluginProperty(group = "processing")
+    private Property<String> regexp;
+
+    @Schema(
+        title = "A glob to filter on full key",
+        description = "`*` and `?` match within a path segment, `**` across segments."
+    )
+    @PluginProperty(group = "processing")
+    private Property<String> glob;
+
+    @Schema(
+        title = "List the keyspace as partitions in parallel",
+        description = "See the `List` task."
+    )
+    @PluginProperty(group = "execution")
+    private List.ParallelListing parallel;
+
+    @Schema(
+        title = "The URI of a file holding the keys to copy, instead of listing the bucket",
+        description = "Must be a `kestra://` internal storage URI, read as with the `DeleteKeys` task."
+    )
+    @PluginProperty(internalStorageURI = true, group = "source")
+    private Property<String> from;
+
+    @Schema(
+        title = "The format of the `from` file",
+        description = "Defaults to the file extension, see the `DeleteKeys` task."
+    )
+    @PluginProperty(group = "source")
+    private Property<DeleteKeys.Format> format;
+
+    @Schema(
+        title = "The field, or CSV column, of the `from` file holding the key"
+    )
+    @Builder.Default
+    @PluginProperty(group = "source")
+    private Property<String> keyField = Property.ofValue("key");
+
+    @Schema(
+        title = "The field, or CSV column, of the `from` file holding the version id to copy"
+    )
+    @Builder.Default
+    @PluginProperty(group = "source")
+    private Property<String> versionIdField = Property.ofValue("versionId");
+
+    @Schema(
+        title = "The destination bucket and prefix"
+    )
+    @NotNull
+    @PluginProperty(group = "destination")
+    private Destination to;
+
+    @Min(1)
+    @Schema(
+        title = "The maximum number of objects copied concurrently",
+        description = "Defaults to 16, or to 4 when streaming to another `connection`."
+    )
+    @PluginProperty(group = "execution")
+    private Property<Integer> concurrency;
+
+    @Schema(
+        title = "The size of each part copied, in bytes",
+        description = "Objects larger than this are copied part by part, see the `Copy` task. Defaults to 128 MiB. " +
+            "When streaming to another `connection`, the parts are buffered in memory: it defaults to 16 MiB and must be at most 1 GiB."
+    )
+    @PluginProperty(group = "execution")
+    private Property<Long> partSize;
+
+    @Min(1)
+    @Schema(
+        title = "The maximum number of parts of an object copied concurrently",
+        description = "Defaults to 4, or to 2 when streaming to another `connection`. " +
+            "When streaming, up to `concurrency` × (`partConcurrency` + 1) parts are held in memory, 192 MiB with the defaults."
+    )
+    @PluginProperty(group = "execution")
+    private Property<Integer> partConcurrency;
+
+    @Schema(
+        title = "Whether to store the result of each key in an ion file on internal storage",
+        description = "Each row holds the `key`, `versionId`, `destination`, `size`, `etag` and `error` of a copied key."
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Boolean> storeResults = Property.ofValue(false);
+
+    @Schema(
+        title = "Whether to fail the task when some objects failed to copy",
+        description = "When false, the failed objects are only counted in `errors` and reported in the results file."
+    )
+    @Builder.Default
+    @PluginProperty(group = "reliability")
+    private Property<Boolean> errorOnFailure = Property.ofValue(true);
+
+    @Override
+    public Output run(RunContext runContext) throws Exception {
+        Logger logger = runContext.logger();
+        String bucket = runContext.render(this.bucket).as(String.class).orElseThrow();
+        String rPrefix = runContext.render(this.prefix).as(String.class).orElse("");
+        String toBucket = runContext.render(this.to.bucket).as(String.class).orElse(bucket);
+        String toPrefix = runContext.render(this.to.prefix).as(String.class).orElse("");
+        boolean rStoreResults = runContext.render(this.storeResults).as(Boolean.class).orElse(false);
+
+        // streamed parts are buffered in memory, so that mode defaults to far fewer and smaller parts in flight
+        boolean streamed = this.to.connection != null;
+        int rConcurrency = runContext.render(this.concurrency).as(Integer.class).orElse(streamed ? 4 : 16);
+        long rPartSize = runContext.render(this.partSize).as(Long.class).orElse(streamed ? STREAMED_PART_SIZE : Copy.DEFAULT_PART_SIZE);
+        int rPartConcurrency = runContext.render(this.partConcurrency).as(Integer.class).orElse(streamed ? 2 : 4);
+
+        if (!streamed && toBucket.equals(bucket) && overlaps(rPrefix, toPrefix, this.from == null)) {
+            throw new IllegalArgumentException(
+                "The destination prefix '" + toPrefix + "' overlaps the source prefix '" + rPrefix + "', set another 'to' bucket or prefix"
+            );
+        }
+
+        if (streamed && (rPartSize < ObjectWriteArgs.MIN_MULTIPART_SIZE || rPartSize > MAX_STREAMED_PART_SIZE)) {
+            throw new IllegalArgumentException("'partSize' must be between 5 MiB and 1 GiB when streaming to another connection, got " + rPartSize);
+        }
+
+        try (
+            MinioClient client = this.client(runContext);
+            MinioAsyncClient asyncClient = streamed ? this.to.connection.asyncClient(runContext) : this.asyncClient(runContext)
+        ) {
+            ListingMetrics metrics = new ListingMetrics();
+            AtomicLong count = new AtomicLong();
+            AtomicLong size = new AtomicLong();
+            AtomicLong errors = new AtomicLong();
+
+            Flux<CopyResult> results = this.sources(runContext, client, metrics)
+                .flatMap(
+                    source -> Mono.fromCallable(() -> copy(
+                        runContext,
+                        streamed ? client : null,
+                        asyncClient,
+                        bucket,
+                        source,
+                        toBucket,
+                        destination(source.key(), rPrefix, toPrefix),
+                        rPartSize,
+                        rPartConcurrency
+                    )).subscribeOn(Schedulers.boundedElastic()),
+                    rConcurrency
+                )
+                .doOnNext(result -> {
+                    if (result.error() != null) {
+                        errors.incrementAndGet();
+                    } else {
+                        count.incrementAndGet();
+                        size.addAndGet(result.size() == null ? 0 : result.size());
+                    }
+                });
+
+            URI uri = null;
+            if (rStoreResults) {
+                File tempFile = runContext.workingDir().createTempFile(".ion").toFile();
+
+                try (Writer writer = new BufferedWriter(new FileWriter(tempFile), FileSerde.BUFFER_SIZE)) {
+                    FileSerde.writeAll(writer, results).block();
+                }
+
+                uri = runContext.storage().putFile(tempFile);
+            } else {
+                results.blockLast();
+            }
+
+            runContext.metric(Counter.of("count", count.get()));
+            runContext.metric(Counter.of("size", "bytes", size.get()));
+            runContext.metric(Counter.of("errors", errors.get()));
+            metrics.report(runContext);
+
+            if (errors.get() > 0 && runContext.render(this.errorOnFailure).as(Boolean.class).orElse(true)) {
+                throw new IllegalStateException(
+                    "Unable to copy " + errors.get() + " objects from " + bucket + ", " + count.get() + " objects were copied"
+                );
+            }
+
+            logger.info("Copied {} objects for {} bytes from '{}' to '{}'", count.get(), size.get(), bucket, toBucket);
+
+            return Output.builder()
+                .count(count.get())
+                .size(size.get())
+                .errors(errors.get())
+                .uri(uri)
+                .build();
+        }
+    }
+
+    private Flux<Source> sources(RunContext runContext, MinioClient client, ListingMetrics metrics) throws Exception {
+        if (this.from != null) {
+            URI rFrom = URI.create(runContext.render(this.from).as(String.class).orElseThrow());
+            DeleteKeys.Format rFormat = runContext.render(this.format).as(DeleteKeys.Format.class).orElse(DeleteKeys.format(rFrom));
+            String rKeyField = runContext.render(this.keyField).as(String.class).orElseThrow();
+            String rVersionIdField = runContext.render(this.versionIdField).as(String.class).orElse(null);
+
+            return Flux.using(
+                    () -> new BufferedReader(new InputStreamReader(runContext.storage().getFile(rFrom), StandardCharsets.UTF_8), FileSerde.BUFFER_SIZE),
+                    throwFunction(reader -> DeleteKeys.keys(reader, rFormat, rKeyField, rVersionIdField)),
+                    DeleteKeys::close
+                )
+                .map(key -> new Source(key.key(), key.versionId(), null));
+        }
+
+        return List.builder()
+            .id(this.id)
+            .type(List.class.getName())
+            .region(this.region)
+            .endpoint(this.endpoint)
+            .accessKeyId(this.accessKeyId)
+            .secretKeyId(this.secretKeyId)
+            .bucket(this.bucket)
+            .prefix(this.prefix)
+            .regexp(this.regexp)
+            .glob(this.glob)
+            .filter(Property.ofValue(List.Filter.FILES))
+            .includeVersions(Property.ofValue(false))
+            .fields(Property.ofValue(java.util.List.of(MinioObject.Field.SIZE)))
+            .parallel(this.parallel)
+            .build()
+            .stream(runContext, client, metrics)
+            .map(object -> new Source(object.getKey(), null, object.getSize()));
+    }
+
+    /**
+     * Copies one object, a failure being logged and returned as the result of the key instead of failing the others.
+     * The object is streamed from {@code source} when set, and copied server-side otherwise.
+     */
+    private static CopyResult copy(
+        RunContext runContext,
+        MinioClient source,
+        MinioAsyncClient client,
+        String bucket,
+        Source object,
+        String toBucket,
+        String toKey,
+        long partSize,
+        int partConcurrency
+    ) {
+        try {
+            Copy.Copied copied;
+            if (source != null) {
+                GetObjectArgs.Builder get = GetObjectArgs.builder()
+                    .bucket(bucket)
+                    .object(object.key());
+                if (object.versionId() != null) {
+                    get.versionId(object.versionId());
+                }
+
+                copied = transfer(source, get.build(), client, toBucket, toKey, (int) partSize, partConcurrency);
+            } else {
+                SourceObject.Builder builder = SourceObject.builder()
+                    .bucket(bucket)
+                    .object(object.key());
+                if (object.versionId() != null) {
+                    builder.versionId(object.versionId());
+                }
+
+                copied = Copy.copy(runContext, client, builder.build(), object.size(), toBucket, toKey, partSize, partConcurrency);
+            }
+
+            return new CopyResult(object.key(), object.versionId(), toKey, copied.size(), copied.etag(), null);
+        } catch (Exception e) {
+            Throwable cause = e instanceof ExecutionException && e.getCause() != null ? e.getCause() : e;
+            runContext.logger().warn("Unable to copy '{}': {}", object.key(), cause.getMessage());
+
+            return new CopyResult(object.key(), object.versionId(), toKey, object.size(), null, cause.getMessage());
+        }
+    }
+
+    /**
+     * Streams an object from the {@code source} endpoint to the {@code destination} one. The body is read one part at a
+     * time and up to {@code partConcurrency} parts are uploaded while the next one is read, so about
+     * {@code partConcurrency + 1} parts are held in memory. An object smaller than a part is sent in a single request.
+     */
+    static Copy.Copied transfer(
+        MinioClient source,
+        GetObjectArgs object,
+        MinioAsyncClient destination,
+        String bucket,
+        String key,
+        int partSize,
+        int partConcurrency
+    ) throws Exception {
+        try (GetObjectResponse in = source.getObject(object)) {
+            Map<String, String> tags = Map.of();
+            if (Copy.tagged(in.headers())) {
+                tags = source.getObjectTags(
+                    GetObjectTagsArgs.builder()
+                        .bucket(object.bucket())
+                        .object(object.object())
+                        .versionId(object.versionId())
+                        .build()
+                ).get();
+            }
+            Http.Headers headers = Copy.metadata(in.headers(), tags);
+
+            byte[] first = in.readNBytes(partSize);
+
+            if (first.length < partSize) {
+                PutObjectArgs put = PutObjectArgs.builder()
+                    .bucket(bucket)
+                    .object(key)
+                    .data(first, first.length)
+                    .headers(headers)
+                    .build();
+
+                return Copy.Copied.of(destination.putObject(put).get(), first.length);
+            }
+
+            String uploadId = destination.createMultipartUpload(
+                CreateMultipartUploadArgs.builder()
+                    .bucket(bucket)
+                    .object(key)
+                    .headers(headers)
+                    .build()
+            ).get().result().uploadId();
+
+            AtomicLong size = new AtomicLong();
+
+            try {
+                java.util.List<Part> parts = parts(in, first, partSize)
+                    .index()
+                    .flatMapSequential(
+                        part -> {
+                            size.addAndGet(part.getT2().length);
+
+                            return Mono.fromFuture(() -> destination.uploadPart(
+                                UploadPartArgs.builder()
+                                    .bucket(bucket)
+                                    .object(key)
+                                    .uploadId(uploadId)
+                                    .partNumber((int) (part.getT1() + 1))
+                                    .data(part.getT2(), part.getT2().length)
+                                    .build()
+                            )).map(UploadPartResponse::part);
+                        },
+                        partConcurrency,
+                        1
+                    )
+                    .collectList()
+                    .block();
+
+                ObjectWriteResponse response = destination.completeMultipartUpload(
+                    CompleteMultipartUploadArgs.builder()
+                        .bucket(bucket)
+                        .object(key)
+                        .uploadId(uploadId)
+                        .parts(parts.toArray(Part[]::new))
+                        .build()
+                ).get();
+
+                return Copy.Copied.of(response, size.get());
+            } catch (Exception e) {
+                // a failed abort leaves the parts stored until a lifecycle rule expires them, the copy failure is still the one reported
+                try {
+                    destination.abortMultipartUpload(
+                        AbortMultipartUploadArgs.builder()
+                            .bucket(bucket)
+                            .object(key)
+                            .uploadId(uploadId)
+                            .build()
+                    ).get();
+                } catch (Exception abortFailure) {
+                    e.addSuppressed(abortFailure);
+                }
+
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Reads {@code in} in parts of {@code partSize} bytes, {@code first} being the first part already read. Parts are
+     * only read when requested, on a worker thread as reads block.
+     */
+    static Flux<byte[]> parts(InputStream in, byte[] first, int partSize) {
+        return Flux.generate(
+                () -> first,
+                (byte[] part, SynchronousSink<byte[]> sink) -> {
+                    if (part.length == 0) {
+                        sink.complete();
+                        return part;
+                    }
+
+                    sink.next(part);
+
+                    // a short part is the last one, the stream is exhausted
+                    if (part.length < partSize) {
+                        return new byte[0];
+                    }
+
+                    try {
+                        return in.readNBytes(partSize);
+                    } catch (IOException e) {
+                        sink.error(e);
+                        return part;
+                    }
+                }
+            )
+            .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * Whether copies within a bucket would write onto their sources or, when the bucket is listed, under the listed
+     * prefix, where the listing could pick up the copies again.
+     */
+    static boolean overlaps(String prefix, String toPrefix, boolean listed) {
+        if (!listed) {
+            return prefix.equals(toPrefix);
+        }
+
+        return toPrefix.startsWith(prefix) || prefix.startsWith(toPrefix);
+    }
+
+    /**
+     * Returns the destination key of {@code key}, its {@code prefix} being replaced by {@code toPrefix}.
+     */
+    static String destination(String key, String prefix, String toPrefix) {
+        return toPrefix + (key.startsWith(prefix) ? key.substring(prefix.length()) : key);
+    }
+
+    static final long STREAMED_PART_SIZE = 16L * 1024 * 1024;
+
+    static final long MAX_STREAMED_PART_SIZE = 1024L * 1024 * 1024;
+
+    private record Source(String key, String versionId, Long size) {
+    }
+
+    public record CopyResult(String key, String versionId, String destination, Long size, String etag, String error) {
+    }
+
+    @SuperBuilder(toBuilder = true)
+    @Getter
+    @NoArgsConstructor
+    public static class Destination {
+        @Schema(
+            title = "The destination bucket",
+            description = "Defaults to the source bucket."
+        )
+        private Property<String> bucket;
+
+        @Schema(
+            title = "The prefix the keys are copied under",
+            description = "In the source bucket, it must neither contain nor be contained in the listed `prefix`."
+        )
+        private Property<String> prefix;
+
+        @Schema(
+            title = "The connection to another endpoint to copy the objects to",
+            description = "When set, the objects are streamed from the task connection to this one instead of being copied server-side."
+        )
+        private Connection connection;
+    }
+
+    @SuperBuilder(toBuilder = true)
+    @Getter
+    @NoArgsConstructor
+    public static class Connection implements AbstractMinio {
+        @Schema(
+            title = "MinIO region of the destination endpoint"
+        )
+        @PluginProperty(group = "connection")
+        private Property<String> region;
+
+        @Schema(
+            title = "Access Key Id for the destination endpoint"
+        )
+        @PluginProperty(secret = true, group = "advanced")
+        private Property<String> accessKeyId;
+
+        @Schema(
+            title = "Secret Key Id for the destination endpoint"
+        )
+        @PluginProperty(secret = true, group = "advanced")
+        private Property<String> secretKeyId;
+
+        @Schema(
+            title = "URL to the destination MinIO endpoint"
+        )
+        @PluginProperty(group = "connection")
+        private Property<String> endpoint;
+
+        @Schema(
+            title = "Client PEM certificate content",
+            description = "PEM client certificate as text, used to authenticate the connection to the destination endpoint (mTLS)."
+        )
+        @PluginProperty(secret = true, group = "advanced")
+        private Property<String> clientPem;
+
+        @Schema(
+            title = "CA PEM certificate content",
+            description = "CA certificate as text, used to verify SSL/TLS connections to the destination endpoint."
+        )
+        @PluginProperty(group = "advanced")
+        private Property<String> caPem;
+
+        @Schema(
+            title = "SSL/TLS configuration options for the destination endpoint"
+        )
+        @PluginProperty(group = "connection")
+        private SslOptions ssl;
+    }
+
+    @Builder
+    @Getter
+    public static class Output implements io.kestra.core.models.tasks.Output {
+        @Schema(
+            title = "The number of objects copied"
+        )
+        private final long count;
+
+        @Schema(
+            title = "The total size of the objects copied, in bytes"
+        )
+        private final long size;
+
+        @Schema(
+            title = "The number of objects that failed to copy"
+        )
+        private final long errors;
+
+        @Schema(
+            title = "The URI of the ion file holding the result of each key",
+            description = "Only set when `storeResults` is enabled."
+        )
+        private final URI uri;
+    }
+
+}
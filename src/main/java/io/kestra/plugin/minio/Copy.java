@@ -1,5 +1,9 @@
 package io.kestra.plugin.minio;
 
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
 import io.kestra.core.models.annotations.Example;
 import io.kestra.core.models.annotations.Plugin;
 import io.kestra.core.models.annotations.PluginProperty;
@@ -8,13 +12,28 @@ import io.kestra.core.models.tasks.RunnableTask;
 import io.kestra.core.runners.RunContext;
 import io.kestra.plugin.minio.model.ObjectOutput;
 
+import io.minio.AbortMultipartUploadArgs;
+import io.minio.CompleteMultipartUploadArgs;
 import io.minio.CopyObjectArgs;
-import io.minio.MinioClient;
+import io.minio.CreateMultipartUploadArgs;
+import io.minio.GetObjectTagsArgs;
+import io.minio.Http;
+import io.minio.MinioAsyncClient;
+import io.minio.ObjectWriteArgs;
 import io.minio.ObjectWriteResponse;
 import io.minio.SourceObject;
+import io.minio.StatObjectArgs;
+import io.minio.StatObjectResponse;
+import io.minio.UploadPartCopyArgs;
+import io.minio.UploadPartCopyResponse;
+import io.minio.Utils;
+import io.minio.messages.Part;
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Min;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 @SuperBuilder
 @ToString
@@ -63,12 +82,37 @@ import lombok.experimental.SuperBuilder;
                       bucket: "my-bucket2"
                       key: "path/to/file2"
                 """
+        ),
+        @Example(
+            title = "Copy a large object with 256 MiB parts, 16 of them copied concurrently by the server.",
+            full = true,
+            code = """
+                id: minio_copy_large
+                namespace: company.team
+
+                tasks:
+                  - id: copy
+                    type: io.kestra.plugin.minio.Copy
+                    accessKeyId: "<access-key>"
+                    secretKeyId: "{{ secret('MINIO_SECRET_KEY_ID') }}"
+                    region: "eu-central-1"
+                    partSize: 268435456
+                    concurrency: 16
+                    from:
+                      bucket: "my-bucket"
+                      key: "path/to/large-file"
+                    to:
+                      bucket: "my-bucket2"
+                      key: "path/to/large-file"
+                """
         )
     }
 )
 @Schema(
     title = "Copy a file between MinIO buckets",
-    description = "Copies an object from one MinIO bucket and key to another, optionally deleting the source afterwards."
+    description = "Copies an object from one MinIO bucket and key to another, optionally deleting the source afterwards. " +
+        "Objects larger than `partSize` are copied by the server with a multipart upload whose parts are copied concurrently, " +
+        "which also lifts the 5 GiB limit of a single copy; no bytes go through the worker."
 )
 public class Copy extends AbstractMinioObject implements RunnableTask<Copy.Output> {
 
@@ -91,9 +135,40 @@ public class Copy extends AbstractMinioObject implements RunnableTask<Copy.Outpu
     @PluginProperty(group = "advanced")
     private Property<Boolean> delete = Property.ofValue(false);
 
+    @Schema(
+        title = "The size of each part copied, in bytes",
+        description = "Objects larger than this are copied part by part. Must be between 5 MiB and 5 GiB, " +
+            "and is raised for objects that would need more than 10,000 parts."
+    )
+    @Builder.Default
+    @PluginProperty(group = "execution")
+    private Property<Long> partSize = Property.ofValue(DEFAULT_PART_SIZE);
+
+    @Min(1)
+    @Schema(
+        title = "The maximum number of parts copied concurrently"
+    )
+    @Builder.Default
+    @PluginProperty(group = "execution")
+    private Property<Integer> concurrency = Property.ofValue(8);
+
+    static final long DEFAULT_PART_SIZE = 128L * 1024 * 1024;
+
+    private static final java.util.List<String> METADATA_HEADERS = java.util.List.of(
+        "Content-Type",
+        "Content-Encoding",
+        "Cache-Control",
+        "Content-Disposition",
+        "Content-Language",
+        "Expires"
+    );
+
     @Override
     public Output run(RunContext runContext) throws Exception {
-        try (MinioClient minioClient = this.client(runContext)) {
+        long rPartSize = runContext.render(this.partSize).as(Long.class).orElse(DEFAULT_PART_SIZE);
+        int rConcurrency = runContext.render(this.concurrency).as(Integer.class).orElse(8);
+
+        try (MinioAsyncClient client = this.asyncClient(runContext)) {
             SourceObject.Builder sourceBuilder = SourceObject.builder()
                 .bucket(runContext.render(this.from.bucket).as(String.class).orElse(null))
                 .object(runContext.render(this.from.key).as(String.class).orElse(null));
@@ -102,14 +177,16 @@ public class Copy extends AbstractMinioObject implements RunnableTask<Copy.Outpu
                 sourceBuilder.versionId(runContext.render(this.from.versionId).as(String.class).orElseThrow());
             }
 
-            CopyObjectArgs.Builder builder = CopyObjectArgs.builder()
-                .bucket(runContext.render(this.to.bucket != null ? this.to.bucket : this.from.bucket).as(String.class).orElseThrow())
-                .object(runContext.render(this.to.key).as(String.class).orElse(null))
-                .source(sourceBuilder.build());
-
-            CopyObjectArgs request = builder.build();
-
-            ObjectWriteResponse response = minioClient.copyObject(request);
+            Copied copied = copy(
+                runContext,
+                client,
+                sourceBuilder.build(),
+                null,
+                runContext.render(this.to.bucket != null ? this.to.bucket : this.from.bucket).as(String.class).orElseThrow(),
+                runContext.render(this.to.key).as(String.class).orElse(null),
+                rPartSize,
+                rConcurrency
+            );
 
             if (runContext.render(this.delete).as(Boolean.class).orElseThrow()) {
                 Delete.builder()
@@ -127,13 +204,208 @@ public class Copy extends AbstractMinioObject implements RunnableTask<Copy.Outpu
 
             return Output
                 .builder()
-                .bucket(response.bucket())
-                .key(response.object())
-                .eTag(response.etag())
+                .bucket(copied.bucket())
+                .key(copied.key())
+                .eTag(copied.etag())
                 .build();
         }
     }
 
+    /**
+     * Copies {@code source} server-side, with a single copy request or, when larger than {@code partSize}, with a
+     * multipart upload whose parts are copied {@code concurrency} at a time. The source is only stat'ed when its
+     * {@code size} is unknown or above {@code partSize}.
+     */
+    static Copied copy(
+        RunContext runContext,
+        MinioAsyncClient client,
+        SourceObject source,
+        Long size,
+        String bucket,
+        String key,
+        long partSize,
+        int concurrency
+    ) throws Exception {
+        if (partSize < ObjectWriteArgs.MIN_MULTIPART_SIZE || partSize > ObjectWriteArgs.MAX_PART_SIZE) {
+            throw new IllegalArgumentException("'partSize' must be between 5 MiB and 5 GiB, got " + partSize);
+        }
+
+        if (size != null && size <= partSize) {
+            return Copied.of(singleCopy(client, source, bucket, key), size);
+        }
+
+        StatObjectArgs.Builder stat = StatObjectArgs.builder()
+            .bucket(source.bucket())
+            .object(source.object());
+        if (source.versionId() != null) {
+            stat.versionId(source.versionId());
+        }
+
+        StatObjectResponse object = client.statObject(stat.build()).get();
+
+        if (object.size() <= partSize) {
+            return Copied.of(singleCopy(client, source, bucket, key), object.size());
+        }
+
+        return Copied.of(
+            multipartCopy(runContext, client, source, object, bucket, key, partSize(object.size(), partSize), Math.max(1, concurrency)),
+            object.size()
+        );
+    }
+
+    private static ObjectWriteResponse singleCopy(MinioAsyncClient client, SourceObject source, String bucket, String key) throws Exception {
+        return client.copyObject(
+            CopyObjectArgs.builder()
+                .bucket(bucket)
+                .object(key)
+                .source(source)
+                .build()
+        ).get();
+    }
+
+    private static ObjectWriteResponse multipartCopy(
+        RunContext runContext,
+        MinioAsyncClient client,
+        SourceObject source,
+        StatObjectResponse object,
+        String bucket,
+        String key,
+        long partSize,
+        int concurrency
+    ) throws Exception {
+        // a multipart upload doesn't copy the metadata of its source, unlike a single copy
+        Map<String, String> tags = Map.of();
+        if (tagged(object.headers())) {
+            tags = client.getObjectTags(
+                GetObjectTagsArgs.builder()
+                    .bucket(source.bucket())
+                    .object(source.object())
+                    .versionId(source.versionId())
+                    .build()
+            ).get().get();
+        }
+        Http.Headers headers = metadata(object.headers(), tags);
+
+        String uploadId = client.createMultipartUpload(
+            CreateMultipartUploadArgs.builder()
+                .bucket(bucket)
+                .object(key)
+                .headers(headers)
+                .build()
+        ).get().result().uploadId();
+
+        // every part is conditioned on the ETag read, so a source overwritten during the copy fails it
+        Http.Headers copyHeaders = SourceObject.builder()
+            .bucket(source.bucket())
+            .object(source.object())
+            .versionId(source.versionId())
+            .matchETag(object.etag())
+            .build()
+            .makeCopyHeaders();
+
+        long size = object.size();
+        int partCount = (int) ((size + partSize - 1) / partSize);
+
+        runContext.logger().debug("Copying '{}' to '{}' in {} parts of {} bytes", source.object(), key, partCount, partSize);
+
+        try {
+            java.util.List<Part> parts = Flux.range(1, partCount)
+                .flatMapSequential(
+                    partNumber -> {
+                        long start = (partNumber - 1) * partSize;
+                        long end = Math.min(size, start + partSize) - 1;
+
+                        Http.Headers partHeaders = new Http.Headers(copyHeaders);
+                        partHeaders.put(Http.Headers.X_AMZ_COPY_SOURCE_RANGE, "bytes=" + start + "-" + end);
+
+                        return Mono.fromFuture(() -> client.uploadPartCopy(
+                            UploadPartCopyArgs.builder()
+                                .bucket(bucket)
+                                .object(key)
+                                .uploadId(uploadId)
+                                .partNumber(partNumber)
+                                .headers(partHeaders)
+                                .build()
+                        )).map(UploadPartCopyResponse::part);
+                    },
+                    concurrency
+                )
+                .collectList()
+                .block();
+
+            return client.completeMultipartUpload(
+                CompleteMultipartUploadArgs.builder()
+                    .bucket(bucket)
+                    .object(key)
+                    .uploadId(uploadId)
+                    .parts(parts.toArray(Part[]::new))
+                    .build()
+            ).get();
+        } catch (Exception e) {
+            // a failed abort leaves the parts stored until a lifecycle rule expires them, the copy failure is still the one reported
+            try {
+                client.abortMultipartUpload(
+                    AbortMultipartUploadArgs.builder()
+                        .bucket(bucket)
+                        .object(key)
+                        .uploadId(uploadId)
+                        .build()
+                ).get();
+            } catch (Exception abortFailure) {
+                e.addSuppressed(abortFailure);
+            }
+
+            throw e;
+        }
+    }
+
+    /**
+     * The headers of a source object that a new upload has to set itself to keep its metadata and tags.
+     */
+    static Http.Headers metadata(okhttp3.Headers source, Map<String, String> tags) {
+        Http.Headers headers = new Http.Headers();
+        for (String name : METADATA_HEADERS) {
+            if (source.get(name) != null) {
+                headers.put(name, source.get(name));
+            }
+        }
+        for (String name : source.names()) {
+            if (name.toLowerCase(Locale.ROOT).startsWith("x-amz-meta-")) {
+                headers.put(name.toLowerCase(Locale.ROOT), source.get(name));
+            }
+        }
+
+        String tagging = tags.entrySet().stream()
+            .map(tag -> Utils.encode(tag.getKey()) + "=" + Utils.encode(tag.getValue()))
+            .collect(Collectors.joining("&"));
+        if (!tagging.isEmpty()) {
+            headers.put("x-amz-tagging", tagging);
+        }
+
+        return headers;
+    }
+
+    static boolean tagged(okhttp3.Headers source) {
+        String count = source.get("x-amz-tagging-count");
+
+        return count != null && Integer.parseInt(count) > 0;
+    }
+
+    /**
+     * Raises {@code partSize} so that an object of {@code size} bytes is copied in at most 10,000 parts.
+     */
+    static long partSize(long size, long partSize) {
+        long minimum = (size + ObjectWriteArgs.MAX_MULTIPART_COUNT - 1) / ObjectWriteArgs.MAX_MULTIPART_COUNT;
+
+        return Math.max(partSize, minimum);
+    }
+
+    record Copied(String bucket, String key, String etag, long size) {
+        static Copied of(ObjectWriteResponse response, long size) {
+            return new Copied(response.bucket(), response.object(), response.etag(), size);
+        }
+    }
+
     @SuperBuilder(toBuilder = true)
     @Getter
     @NoArgsConstructor
@@ -0,0 +1,322 @@
+package io.kestra.plugin.minio;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.slf4j.Logger;
+
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Metric;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.annotations.PluginProperty;
+import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.RunnableTask;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.serializers.FileSerde;
+import io.kestra.core.serializers.JacksonMapper;
+
+import io.minio.MinioClient;
+import io.minio.messages.DeleteRequest;
+import io.minio.messages.DeleteResult;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import static io.kestra.core.utils.Rethrow.throwFunction;
+
+@SuperBuilder
+@ToString
+@EqualsAndHashCode
+@Getter
+@NoArgsConstructor
+@Plugin(
+    examples = {
+        @Example(
+            title = "Delete the objects of a listing stored on internal storage.",
+            full = true,
+            code = """
+                id: minio_delete_keys
+                namespace: company.team
+
+                tasks:
+                  - id: list_objects
+                    type: io.kestra.plugin.minio.List
+                    accessKeyId: "<access-key>"
+                    secretKeyId: "{{ secret('MINIO_SECRET_KEY_ID') }}"
+                    region: "eu-central-1"
+                    bucket: "my-bucket"
+                    prefix: "tmp/"
+                    fetchType: STORE
+
+                  - id: delete_keys
+                    type: io.kestra.plugin.minio.DeleteKeys
+                    accessKeyId: "<access-key>"
+                    secretKeyId: "{{ secret('MINIO_SECRET_KEY_ID') }}"
+                    region: "eu-central-1"
+                    bucket: "my-bucket"
+                    from: "{{ outputs.list_objects.uri }}"
+                """
+        ),
+        @Example(
+            title = "Delete the keys of a CSV file with a `path` column.",
+            full = true,
+            code = """
+                id: minio_delete_keys_csv
+                namespace: company.team
+
+                inputs:
+                  - id: keys
+                    type: FILE
+
+                tasks:
+                  - id: delete_keys
+                    type: io.kestra.plugin.minio.DeleteKeys
+                    accessKeyId: "<access-key>"
+                    secretKeyId: "{{ secret('MINIO_SECRET_KEY_ID') }}"
+                    region: "eu-central-1"
+                    bucket: "my-bucket"
+                    from: "{{ inputs.keys }}"
+                    format: CSV
+                    keyField: path
+                """
+        )
+    },
+    metrics = {
+        @Metric(
+            name = "count",
+            type = Counter.TYPE,
+            unit = "count",
+            description = "The number of keys deleted from the MinIO bucket."
+        ),
+        @Metric(
+            name = "errors",
+            type = Counter.TYPE,
+            unit = "count",
+            description = "The number of keys the server failed to delete."
+        )
+    }
+)
+@Schema(
+    title = "Delete the keys listed in a file on a MinIO bucket",
+    description = "Streams the keys, and optionally their version ids, from an ion, CSV or JSONL file on internal storage, " +
+        "and deletes them with batched multi-object delete requests, without listing the bucket."
+)
+public class DeleteKeys extends AbstractMinioObject implements RunnableTask<DeleteKeys.Output> {
+
+    public enum Format {
+        ION,
+        CSV,
+        JSONL
+    }
+
+    @Schema(
+        title = "The URI of the file holding the keys to delete",
+        description = "Must be a `kestra://` internal storage URI, such as the `uri` output of `List` with `fetchType: STORE`."
+    )
+    @NotNull
+    @PluginProperty(internalStorageURI = true, group = "source")
+    private Property<String> from;
+
+    @Schema(
+        title = "The format of the file",
+        description = "Defaults to the file extension, `.csv` and `.jsonl` files being read as such and any other as ion. " +
+            "CSV files must have a header row. Rows of ion and JSONL files are either objects or plain keys."
+    )
+    @PluginProperty(group = "source")
+    private Property<Format> format;
+
+    @Schema(
+        title = "The field, or CSV column, holding the key"
+    )
+    @Builder.Default
+    @PluginProperty(group = "source")
+    private Property<String> keyField = Property.ofValue("key");
+
+    @Schema(
+        title = "The field, or CSV column, holding the version id",
+        description = "Rows without a version id delete the current version of the key."
+    )
+    @Builder.Default
+    @PluginProperty(group = "source")
+    private Property<String> versionIdField = Property.ofValue("versionId");
+
+    @Schema(
+        title = "The number of keys deleted per request",
+        description = "Keys are deleted with multi-object delete requests, which accept at most 1,000 keys."
+    )
+    @Builder.Default
+    @PluginProperty(group = "execution")
+    private Property<Integer> batchSize = Property.ofValue(DeleteList.MAX_BATCH_SIZE);
+
+    @Min(2)
+    @Schema(
+        title = "Number of batches deleted concurrently"
+    )
+    @PluginProperty(group = "execution")
+    private Integer concurrent;
+
+    @Schema(
+        title = "Whether to bypass the governance mode retention of the versions deleted"
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Boolean> bypassGovernanceMode = Property.ofValue(false);
+
+    @Override
+    public Output run(RunContext runContext) throws Exception {
+        Logger logger = runContext.logger();
+        String bucket = runContext.render(this.bucket).as(String.class).orElseThrow();
+        URI rFrom = URI.create(runContext.render(this.from).as(String.class).orElseThrow());
+        Format rFormat = runContext.render(this.format).as(Format.class).orElse(format(rFrom));
+        String rKeyField = runContext.render(this.keyField).as(String.class).orElseThrow();
+        String rVersionIdField = runContext.render(this.versionIdField).as(String.class).orElse(null);
+        int rBatchSize = Math.min(DeleteList.MAX_BATCH_SIZE, runContext.render(this.batchSize).as(Integer.class).orElse(DeleteList.MAX_BATCH_SIZE));
+        boolean rBypassGovernanceMode = runContext.render(this.bypassGovernanceMode).as(Boolean.class).orElse(false);
+
+        try (MinioClient client = this.client(runContext)) {
+            Flux<java.util.List<DeleteRequest.Object>> batches = Flux.using(
+                    () -> new BufferedReader(new InputStreamReader(runContext.storage().getFile(rFrom), StandardCharsets.UTF_8), FileSerde.BUFFER_SIZE),
+                    throwFunction(reader -> keys(reader, rFormat, rKeyField, rVersionIdField)),
+                    DeleteKeys::close
+                )
+                .map(Key::toObject)
+                .buffer(rBatchSize);
+
+            Flux<DeleteList.Deleted> result;
+            if (this.concurrent != null) {
+                result = batches.flatMap(
+                    batch -> Mono.fromCallable(() -> delete(logger, client, bucket, batch, rBypassGovernanceMode)).subscribeOn(Schedulers.boundedElastic()),
+                    this.concurrent,
+                    1
+                );
+            } else {
+                result = batches.concatMap(batch -> Mono.fromCallable(() -> delete(logger, client, bucket, batch, rBypassGovernanceMode)), 1);
+            }
+
+            DeleteList.Deleted total = result
+                .reduce(DeleteList.Deleted.EMPTY, DeleteList.Deleted::plus)
+                .block();
+
+            runContext.metric(Counter.of("count", total.count()));
+            runContext.metric(Counter.of("errors", total.errors()));
+
+            if (total.errors() > 0) {
+                throw new IllegalStateException(
+                    "Unable to delete " + total.errors() + " keys on " + bucket + ", " + total.count() + " keys were deleted"
+                );
+            }
+
+            logger.info("Deleted {} keys listed in '{}'", total.count(), rFrom);
+
+            return Output.builder()
+                .count(total.count())
+                .build();
+        }
+    }
+
+    private static DeleteList.Deleted delete(Logger logger, MinioClient client, String bucket, java.util.List<DeleteRequest.Object> batch, boolean bypassGovernanceMode) throws Exception {
+        java.util.List<DeleteResult.Error> errors = MinioService.removeObjects(client, bucket, batch, bypassGovernanceMode);
+
+        for (DeleteResult.Error error : errors) {
+            logger.warn("Unable to delete '{}': {} {}", error.objectName(), error.code(), error.message());
+        }
+
+        // sizes are unknown, only keys are read
+        return new DeleteList.Deleted(batch.size() - errors.size(), 0, errors.size());
+    }
+
+    static Flux<Key> keys(BufferedReader reader, Format format, String keyField, String versionIdField) throws IOException {
+        return switch (format) {
+            case ION -> FileSerde.readAll(reader).map(row -> object(row, keyField, versionIdField));
+            case JSONL -> Flux.fromStream(reader.lines())
+                .filter(line -> !line.isBlank())
+                .map(throwFunction(line -> object(JacksonMapper.ofJson().readValue(line, Object.class), keyField, versionIdField)));
+            case CSV -> {
+                AtomicReference<java.util.List<String>> header = new AtomicReference<>();
+
+                yield Flux.fromStream(reader.lines())
+                    .filter(line -> !line.isEmpty())
+                    .map(InventoryReader::parseLine)
+                    .filter(row -> header.get() != null || !header.compareAndSet(null, row))
+                    .map(row -> {
+                        int key = header.get().indexOf(keyField);
+                        if (key < 0) {
+                            throw new IllegalArgumentException("No column '" + keyField + "' in the CSV header " + header.get());
+                        }
+
+                        int versionId = versionIdField == null ? -1 : header.get().indexOf(versionIdField);
+                        String version = versionId < 0 || versionId >= row.size() || row.get(versionId).isEmpty() ? null : row.get(versionId);
+
+                        return new Key(row.get(key), version);
+                    });
+            }
+        };
+    }
+
+    private static Key object(Object row, String keyField, String versionIdField) {
+        if (row instanceof String key) {
+            return new Key(key, null);
+        }
+
+        if (!(row instanceof Map<?, ?> map) || !(map.get(keyField) instanceof String key)) {
+            throw new IllegalArgumentException("Invalid row without a '" + keyField + "' field: " + row);
+        }
+
+        Object versionId = versionIdField == null ? null : map.get(versionIdField);
+
+        return new Key(key, versionId == null ? null : versionId.toString());
+    }
+
+    static Format format(URI uri) {
+        String path = uri.getPath() == null ? "" : uri.getPath().toLowerCase();
+
+        if (path.endsWith(".csv")) {
+            return Format.CSV;
+        }
+
+        if (path.endsWith(".jsonl") || path.endsWith(".ndjson")) {
+            return Format.JSONL;
+        }
+
+        return Format.ION;
+    }
+
+    static void close(BufferedReader reader) {
+        try {
+            reader.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * A key read from the file, {@code versionId} being null for the current version.
+     */
+    record Key(String key, String versionId) {
+        DeleteRequest.Object toObject() {
+            return versionId == null ? new DeleteRequest.Object(key) : new DeleteRequest.Object(key, versionId);
+        }
+    }
+
+    @Builder
+    @Getter
+    public static class Output implements io.kestra.core.models.tasks.Output {
+        @Schema(
+            title = "The count of keys deleted"
+        )
+        private final long count;
+    }
+
+}
@@ -1,7 +1,9 @@
 package io.kestra.plugin.minio;
 
+import java.util.HashSet;
+import java.util.Map;
 import java.util.NoSuchElementException;
-import java.util.function.Function;
+import java.util.Set;
 
 import org.slf4j.Logger;
 
@@ -15,19 +17,20 @@ import io.kestra.core.models.tasks.RunnableTask;
 import io.kestra.core.runners.RunContext;
 import io.kestra.plugin.minio.model.MinioObject;
 
+import io.minio.ListObjectsArgs;
 import io.minio.MinioClient;
 import io.minio.RemoveObjectArgs;
+import io.minio.errors.ErrorResponseException;
+import io.minio.messages.DeleteRequest;
+import io.minio.messages.DeleteResult;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.Min;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
 import reactor.core.publisher.Flux;
-import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 
-import static io.kestra.core.utils.Rethrow.throwConsumer;
-import static io.kestra.core.utils.Rethrow.throwFunction;
-
 @SuperBuilder
 @ToString
 @EqualsAndHashCode
@@ -81,6 +84,24 @@ import static io.kestra.core.utils.Rethrow.throwFunction;
             type = Counter.TYPE,
             unit = "bytes",
             description = "The total size in bytes of all objects deleted from the MinIO bucket."
+        ),
+        @Metric(
+            name = "errors",
+            type = Counter.TYPE,
+            unit = "count",
+            description = "The number of objects the server failed to delete."
+        ),
+        @Metric(
+            name = "keys.listed",
+            type = Counter.TYPE,
+            unit = "count",
+            description = "Number of keys returned by the server, before filtering."
+        ),
+        @Metric(
+            name = "pages",
+            type = Counter.TYPE,
+            unit = "count",
+            description = "Number of listing requests sent to the server."
         )
     }
 )
@@ -126,19 +147,42 @@ public class DeleteList extends AbstractMinioObject implements RunnableTask<Dele
     @PluginProperty(group = "processing")
     protected Property<String> regexp;
 
+    @Schema(
+        title = "A glob to filter on full key",
+        description = "`*` and `?` match within a path segment, `**` across segments. " +
+            "The literal start of `regexp` or `glob` is used as the listing prefix when it is more specific than `prefix`."
+    )
+    @PluginProperty(group = "processing")
+    protected Property<String> glob;
+
     @Schema(
         title = "The type of objects to filter: files, directory, or both"
     )
     @Builder.Default
     protected final Property<List.Filter> filter = Property.ofValue(List.Filter.BOTH);
 
+    @Schema(
+        title = "List the keyspace as partitions in parallel",
+        description = "The keyspace under `prefix` is split into partitions listed concurrently, see the `List` task."
+    )
+    @PluginProperty(group = "execution")
+    private List.ParallelListing parallel;
+
     @Min(2)
     @Schema(
-        title = "Number of concurrent parallels deletion"
+        title = "Number of batches deleted concurrently"
     )
     @PluginProperty(group = "execution")
     private Integer concurrent;
 
+    @Schema(
+        title = "The number of keys deleted per request",
+        description = "Keys are deleted with multi-object delete requests, which accept at most 1,000 keys."
+    )
+    @Builder.Default
+    @PluginProperty(group = "execution")
+    private Property<Integer> batchSize = Property.ofValue(MAX_BATCH_SIZE);
+
     @Schema(
         title = "raise an error if the file is not found"
     )
@@ -146,66 +190,137 @@ public class DeleteList extends AbstractMinioObject implements RunnableTask<Dele
     @PluginProperty(group = "reliability")
     private final Property<Boolean> errorOnEmpty = Property.ofValue(false);
 
+    @Schema(
+        title = "Delete the whole prefix server-side in a single request",
+        description = "Sends a delete of `prefix` with the MinIO `x-minio-force-delete` header, which removes every key under it, " +
+            "including all their versions on a versioned bucket. A one-key listing then checks that the prefix is empty; " +
+            "on servers that ignore the header, the keys are listed and deleted in batches instead. " +
+            "When the prefix is deleted server-side, `count` and `size` are unknown and left to 0. Cannot be combined with `regexp`, `glob`, `filter`, `marker` or `delimiter`."
+    )
+    @Builder.Default
+    @PluginProperty(group = "execution")
+    private Property<Boolean> forceDeletePrefix = Property.ofValue(false);
+
+    static final int MAX_BATCH_SIZE = 1000;
+
+    static final String FORCE_DELETE_HEADER = "x-minio-force-delete";
+
     @Override
     public Output run(RunContext runContext) throws Exception {
         Logger logger = runContext.logger();
         String bucket = runContext.render(this.bucket).as(String.class).orElse(null);
+        int rBatchSize = Math.min(MAX_BATCH_SIZE, runContext.render(this.batchSize).as(Integer.class).orElse(MAX_BATCH_SIZE));
 
         try (MinioClient client = this.client(runContext)) {
+            if (runContext.render(this.forceDeletePrefix).as(Boolean.class).orElse(false)) {
+                if (this.forceDelete(runContext, client, bucket)) {
+                    return Output.builder().forced(true).build();
+                }
 
-            Flux<MinioObject> flowable = Flux.create(
-                throwConsumer(emitter ->
-                {
-                    list(runContext).forEach(emitter::next);
+                logger.info("The server did not delete the prefix, listing and deleting its keys instead");
+            }
 
-                    emitter.complete();
-                }
-                ), FluxSink.OverflowStrategy.BUFFER
-            );
+            ListingMetrics metrics = new ListingMetrics();
+
+            // keys are deleted while the listing goes on, the listing is at most one batch ahead of the deletions
+            Flux<java.util.List<MinioObject>> batches = this.listing()
+                .stream(runContext, client, metrics)
+                .buffer(rBatchSize);
 
-            Flux<Long> result;
+            Flux<Deleted> result;
 
             if (this.concurrent != null) {
-                result = flowable
-                    .parallel(this.concurrent)
-                    .runOn(Schedulers.boundedElastic())
-                    .map(throwFunction(o -> delete(logger, client, bucket).apply(o)))
-                    .sequential();
+                result = batches.flatMap(
+                    batch -> Mono.fromCallable(() -> delete(logger, client, bucket, batch)).subscribeOn(Schedulers.boundedElastic()),
+                    this.concurrent,
+                    1
+                );
             } else {
-                result = flowable.map(throwFunction(o -> delete(logger, client, bucket).apply(o)));
+                result = batches.concatMap(batch -> Mono.fromCallable(() -> delete(logger, client, bucket, batch)), 1);
             }
 
-            org.apache.commons.lang3.tuple.Pair<Long, Long> finalResult = result
-                .reduce(
-                    org.apache.commons.lang3.tuple.Pair.of(0L, 0L),
-                    (pair, size) -> org.apache.commons.lang3.tuple.Pair.of(pair.getLeft() + 1, pair.getRight() + size)
-                )
+            Deleted finalResult = result
+                .reduce(Deleted.EMPTY, Deleted::plus)
                 .block();
 
-            runContext.metric(Counter.of("count", finalResult.getLeft()));
-            runContext.metric(Counter.of("size", finalResult.getRight()));
+            runContext.metric(Counter.of("count", finalResult.count()));
+            runContext.metric(Counter.of("size", finalResult.size()));
+            runContext.metric(Counter.of("errors", finalResult.errors()));
+            metrics.report(runContext);
+
+            if (finalResult.errors() > 0) {
+                throw new IllegalStateException(
+                    "Unable to delete " + finalResult.errors() + " keys on " + bucket + ", " + finalResult.count() + " keys were deleted"
+                );
+            }
 
-            if (runContext.render(errorOnEmpty).as(Boolean.class).orElseThrow() && finalResult.getLeft() == 0) {
+            if (runContext.render(errorOnEmpty).as(Boolean.class).orElseThrow() && finalResult.count() == 0) {
                 throw new NoSuchElementException(
                     "Unable to find any files to delete on " +
                         runContext.render(this.bucket).as(String.class).orElse(null) + " " +
-                        "with regexp='" + runContext.render(this.regexp) + "', " +
-                        "prefix='" + runContext.render(this.prefix) + "'"
+                        "with regexp='" + runContext.render(this.regexp).as(String.class).orElse(null) + "', " +
+                        "glob='" + runContext.render(this.glob).as(String.class).orElse(null) + "', " +
+                        "prefix='" + runContext.render(this.prefix).as(String.class).orElse(null) + "'"
                 );
             }
 
-            logger.info("Deleted {} keys for {} bytes", finalResult.getLeft(), finalResult.getValue());
+            logger.info("Deleted {} keys for {} bytes", finalResult.count(), finalResult.size());
 
             return Output
                 .builder()
-                .count(finalResult.getLeft())
-                .size(finalResult.getRight())
+                .count(finalResult.count())
+                .size(finalResult.size())
                 .build();
         }
     }
 
-    private java.util.List<MinioObject> list(RunContext runContext) throws Exception {
-        io.kestra.plugin.minio.List task = io.kestra.plugin.minio.List
+    /**
+     * Force deletes the prefix on MinIO, and probes with a one-key listing whether the server actually deleted it: other
+     * backends ignore the header and only delete the key named as the prefix, if any.
+     */
+    private boolean forceDelete(RunContext runContext, MinioClient client, String bucket) throws Exception {
+        String rPrefix = runContext.render(this.prefix).as(String.class).orElse(null);
+
+        if (rPrefix == null || rPrefix.isEmpty()) {
+            throw new IllegalArgumentException("'forceDeletePrefix' requires a 'prefix'");
+        }
+
+        if (this.regexp != null || this.glob != null || this.marker != null || this.delimiter != null ||
+            runContext.render(this.filter).as(List.Filter.class).orElse(List.Filter.BOTH) != List.Filter.BOTH) {
+            throw new IllegalArgumentException("'forceDeletePrefix' deletes every key under the prefix, it cannot be combined with 'regexp', 'glob', 'filter', 'marker' or 'delimiter'");
+        }
+
+        try {
+            client.removeObject(
+                RemoveObjectArgs.builder()
+                    .bucket(bucket)
+                    .object(rPrefix)
+                    .extraHeaders(Map.of(FORCE_DELETE_HEADER, "true"))
+                    .build()
+            );
+        } catch (ErrorResponseException e) {
+            runContext.logger().debug("Force delete of '{}' rejected: {}", rPrefix, e.errorResponse().code());
+            return false;
+        }
+
+        boolean empty = !client.listObjects(
+            ListObjectsArgs.builder()
+                .bucket(bucket)
+                .prefix(rPrefix)
+                .recursive(true)
+                .maxKeys(1)
+                .build()
+        ).iterator().hasNext();
+
+        if (empty) {
+            runContext.logger().info("Deleted every key under '{}' server-side", rPrefix);
+        }
+
+        return empty;
+    }
+
+    private io.kestra.plugin.minio.List listing() {
+        return io.kestra.plugin.minio.List
             .builder()
             .id(this.id)
             .type(io.kestra.plugin.minio.List.class.getName())
@@ -219,26 +334,46 @@ public class DeleteList extends AbstractMinioObject implements RunnableTask<Dele
             .marker(this.marker)
             .maxKeys(this.maxKeys)
             .regexp(this.regexp)
+            .glob(this.glob)
             .filter(this.filter)
+            .parallel(this.parallel)
+            .fields(Property.ofValue(java.util.List.of(MinioObject.Field.SIZE)))
             .build();
-
-        return task.run(runContext).getObjects();
     }
 
-    public static Function<MinioObject, Long> delete(Logger logger, MinioClient client, String bucket) throws Exception {
-        return throwFunction(object ->
-        {
-            logger.debug("Deleting '{}'", object.getKey());
+    /**
+     * Deletes a batch in a single multi-object delete request, the keys the server failed to delete are logged and
+     * counted as errors.
+     */
+    static Deleted delete(Logger logger, MinioClient client, String bucket, java.util.List<MinioObject> batch) throws Exception {
+        logger.debug("Deleting {} keys from '{}' to '{}'", batch.size(), batch.getFirst().getKey(), batch.getLast().getKey());
+
+        java.util.List<DeleteResult.Error> errors = MinioService.removeObjects(
+            client,
+            bucket,
+            batch.stream().map(object -> new DeleteRequest.Object(object.getKey())).toList()
+        );
+
+        Set<String> failed = new HashSet<>();
+        for (DeleteResult.Error error : errors) {
+            logger.warn("Unable to delete '{}': {} {}", error.objectName(), error.code(), error.message());
+            failed.add(error.objectName());
+        }
 
-            RemoveObjectArgs.Builder request = RemoveObjectArgs
-                .builder()
-                .bucket(bucket)
-                .object(object.getKey());
+        long size = batch.stream()
+            .filter(object -> !failed.contains(object.getKey()))
+            .mapToLong(object -> object.getSize() == null ? 0 : object.getSize())
+            .sum();
+
+        return new Deleted(batch.size() - failed.size(), size, failed.size());
+    }
 
-            client.removeObject(request.build());
+    record Deleted(long count, long size, long errors) {
+        static final Deleted EMPTY = new Deleted(0, 0, 0);
 
-            return object.getSize();
-        });
+        Deleted plus(Deleted other) {
+            return new Deleted(count + other.count, size + other.size, errors + other.errors);
+        }
     }
 
     @Builder
@@ -255,6 +390,13 @@ public class DeleteList extends AbstractMinioObject implements RunnableTask<Dele
             title = "The size of all blobs deleted"
         )
         private final long size = 0;
+
+        @Builder.Default
+        @Schema(
+            title = "Whether the prefix was deleted server-side in a single request",
+            description = "`count` and `size` are then unknown and left to 0."
+        )
+        private final boolean forced = false;
     }
 
 }
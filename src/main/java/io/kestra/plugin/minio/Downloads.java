@@ -126,12 +126,34 @@ public class Downloads extends AbstractMinioObject implements RunnableTask<Downl
     @PluginProperty(group = "processing")
     protected Property<String> regexp;
 
+    @Schema(
+        title = "A glob to filter on full key",
+        description = "`*` and `?` match within a path segment, `**` across segments. " +
+            "The literal start of `regexp` or `glob` is used as the listing prefix when it is more specific than `prefix`."
+    )
+    @PluginProperty(group = "processing")
+    protected Property<String> glob;
+
     @Schema(
         title = "The type of objects to filter: files, directory, or both"
     )
     @Builder.Default
     protected final Property<io.kestra.plugin.minio.List.Filter> filter = Property.ofValue(io.kestra.plugin.minio.List.Filter.BOTH);
 
+    @Schema(
+        title = "List the keyspace as partitions in parallel",
+        description = "The keyspace under `prefix` is split into partitions listed concurrently, see the `List` task."
+    )
+    @PluginProperty(group = "execution")
+    private io.kestra.plugin.minio.List.ParallelListing parallel;
+
+    @Schema(
+        title = "The maximum number of objects to download",
+        description = "The listing stops as soon as this many objects matched the filters."
+    )
+    @PluginProperty(group = "processing")
+    private Property<Integer> limit;
+
     @Schema(
         title = "The action to perform on the retrieved files. If using 'NONE' make sure to handle the files inside your flow to avoid infinite triggering"
     )
@@ -161,7 +183,10 @@ public class Downloads extends AbstractMinioObject implements RunnableTask<Downl
             .marker(this.marker)
             .maxKeys(this.maxKeys)
             .regexp(this.regexp)
+            .glob(this.glob)
             .filter(this.filter)
+            .parallel(this.parallel)
+            .limit(this.limit)
             .build();
 
         io.kestra.plugin.minio.List.Output run = task.run(runContext);
@@ -0,0 +1,203 @@
+package io.kestra.plugin.minio;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import io.kestra.core.serializers.JacksonMapper;
+import io.kestra.plugin.minio.model.MinioObject;
+
+import io.minio.GetObjectArgs;
+import io.minio.ListObjectsArgs;
+import io.minio.MinioClient;
+import io.minio.Result;
+import io.minio.messages.Item;
+import reactor.core.publisher.Flux;
+
+/**
+ * Streams the objects of an S3 inventory report: the {@code manifest.json} lists the data files, which are read one
+ * after the other, line by line, without loading a whole file in memory.
+ * <p>
+ * Only the CSV format is supported.
+ */
+public class InventoryReader {
+    static final String MANIFEST = "manifest.json";
+
+    private final MinioClient client;
+    private final String bucket;
+    private final Map<String, Integer> columns;
+    private final java.util.List<String> files;
+
+    private InventoryReader(MinioClient client, String bucket, Map<String, Integer> columns, java.util.List<String> files) {
+        this.client = client;
+        this.bucket = bucket;
+        this.columns = columns;
+        this.files = files;
+    }
+
+    /**
+     * Reads the manifest at {@code manifest}, or the most recent one under it when it is a prefix.
+     */
+    public static InventoryReader of(MinioClient client, String bucket, String manifest) throws Exception {
+        String manifestKey = manifest.endsWith(MANIFEST) ? manifest : latestManifest(client, bucket, manifest);
+
+        JsonNode node;
+        try (InputStream in = client.getObject(GetObjectArgs.builder().bucket(bucket).object(manifestKey).build())) {
+            node = JacksonMapper.ofJson().readTree(in);
+        }
+
+        String format = node.path("fileFormat").asText();
+        if (!format.equalsIgnoreCase("CSV")) {
+            throw new IllegalArgumentException("Unsupported inventory format '" + format + "' in '" + manifestKey + "', only CSV inventories can be read");
+        }
+
+        Map<String, Integer> columns = new HashMap<>();
+        String[] schema = node.path("fileSchema").asText().split(",");
+        for (int i = 0; i < schema.length; i++) {
+            columns.put(schema[i].trim(), i);
+        }
+
+        if (!columns.containsKey("Key")) {
+            throw new IllegalArgumentException("The inventory schema of '" + manifestKey + "' has no 'Key' column");
+        }
+
+        java.util.List<String> files = new ArrayList<>();
+        node.path("files").forEach(file -> files.add(file.path("key").asText()));
+
+        return new InventoryReader(client, bucket, columns, files);
+    }
+
+    /**
+     * Streams the rows of every data file of the manifest, in order. Rows of versioned inventories that are older
+     * versions or delete markers are skipped unless {@code includeVersions} is set.
+     */
+    public Flux<MinioObject> objects(Set<MinioObject.Field> fields, boolean includeVersions, ListingMetrics metrics) {
+        return Flux.fromIterable(files)
+            .concatMap(file -> Flux.using(
+                () -> open(file),
+                reader -> Flux.fromStream(reader.lines()),
+                InventoryReader::close
+            ))
+            .filter(line -> !line.isEmpty())
+            .map(InventoryReader::parseLine)
+            .doOnNext(row -> metrics.listed())
+            .filter(row -> includeVersions || isLatest(row))
+            .map(row -> this.toObject(row, fields));
+    }
+
+    private boolean isLatest(java.util.List<String> row) {
+        return !"false".equalsIgnoreCase(column(row, "IsLatest")) &&
+            !"true".equalsIgnoreCase(column(row, "IsDeleteMarker"));
+    }
+
+    private MinioObject toObject(java.util.List<String> row, Set<MinioObject.Field> fields) {
+        // keys are URL-encoded in the inventory files
+        MinioObject.MinioObjectBuilder builder = MinioObject.builder()
+            .key(URLDecoder.decode(row.get(columns.get("Key")), StandardCharsets.UTF_8));
+
+        String size = column(row, "Size");
+        if (fields.contains(MinioObject.Field.SIZE) && size != null) {
+            builder.size(Long.parseLong(size));
+        }
+
+        String lastModified = column(row, "LastModifiedDate");
+        if (fields.contains(MinioObject.Field.LAST_MODIFIED) && lastModified != null) {
+            builder.lastModified(Instant.parse(lastModified));
+        }
+
+        String etag = column(row, "ETag");
+        if (fields.contains(MinioObject.Field.ETAG) && etag != null) {
+            builder.etag(etag);
+        }
+
+        return builder.build();
+    }
+
+    private String column(java.util.List<String> row, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= row.size() || row.get(index).isEmpty()) {
+            return null;
+        }
+
+        return row.get(index);
+    }
+
+    private BufferedReader open(String key) throws Exception {
+        InputStream in = client.getObject(GetObjectArgs.builder().bucket(bucket).object(key).build());
+
+        return new BufferedReader(new InputStreamReader(key.endsWith(".gz") ? new GZIPInputStream(in) : in, StandardCharsets.UTF_8));
+    }
+
+    private static void close(BufferedReader reader) {
+        try {
+            reader.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String latestManifest(MinioClient client, String bucket, String prefix) throws Exception {
+        String latest = null;
+
+        for (Result<Item> result : client.listObjects(ListObjectsArgs.builder().bucket(bucket).prefix(prefix).recursive(true).build())) {
+            String key = result.get().objectName();
+            // manifests are stored in folders named by their creation date, so the greatest key is the most recent
+            if (key.endsWith("/" + MANIFEST) && (latest == null || key.compareTo(latest) > 0)) {
+                latest = key;
+            }
+        }
+
+        if (latest == null) {
+            throw new IllegalArgumentException("No inventory manifest found under 's3://" + bucket + "/" + prefix + "'");
+        }
+
+        return latest;
+    }
+
+    /**
+     * Splits a CSV line, where values may be quoted and quotes are escaped by doubling them, as in inventory files.
+     */
+    static java.util.List<String> parseLine(String line) {
+        java.util.List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    value.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    value.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+
+        values.add(value.toString());
+
+        return values;
+    }
+}
@@ -0,0 +1,222 @@
+package io.kestra.plugin.minio;
+
+import java.util.regex.Pattern;
+
+/**
+ * Matches object keys against a regexp and/or a glob compiled once for the whole listing.
+ * <p>
+ * The longest literal prefix every matching key must start with is derived from the patterns, so it can be pushed
+ * down as the server-side listing prefix.
+ */
+public class KeyFilter {
+    private static final String REGEXP_META = ".[]{}()*+?^$|\\";
+
+    private final Pattern regexp;
+    private final Pattern glob;
+    private final String literalPrefix;
+
+    private KeyFilter(Pattern regexp, Pattern glob, String literalPrefix) {
+        this.regexp = regexp;
+        this.glob = glob;
+        this.literalPrefix = literalPrefix;
+    }
+
+    public static KeyFilter of(String regexp, String glob) {
+        String regexpPrefix = regexp == null ? "" : regexpPrefix(regexp);
+        String globPrefix = glob == null ? "" : globPrefix(glob);
+
+        return new KeyFilter(
+            regexp == null ? null : Pattern.compile(regexp),
+            glob == null ? null : Pattern.compile(globToRegexp(glob)),
+            // both patterns must match, so the longest prefix applies
+            regexpPrefix.length() >= globPrefix.length() ? regexpPrefix : globPrefix
+        );
+    }
+
+    public boolean matches(String key) {
+        return (regexp == null || regexp.matcher(key).matches()) &&
+            (glob == null || glob.matcher(key).matches());
+    }
+
+    /**
+     * Returns the prefix to list with: the literal prefix of the patterns when it is more specific than {@code prefix}.
+     * <p>
+     * When the listing groups keys by {@code delimiter}, the literal prefix is cut before its first delimiter past
+     * {@code prefix}: a deeper prefix would list the content of a folder instead of the folder itself.
+     */
+    public String narrow(String prefix, String delimiter) {
+        String base = prefix == null ? "" : prefix;
+        if (!literalPrefix.startsWith(base)) {
+            return prefix;
+        }
+
+        String narrowed = literalPrefix;
+        if (delimiter != null && !delimiter.isEmpty()) {
+            int cut = literalPrefix.indexOf(delimiter, base.length());
+            if (cut >= 0) {
+                narrowed = literalPrefix.substring(0, cut);
+            }
+        }
+
+        return narrowed.length() > base.length() ? narrowed : prefix;
+    }
+
+    public String getLiteralPrefix() {
+        return literalPrefix;
+    }
+
+    static String regexpPrefix(String regexp) {
+        // a top-level alternation means matching keys may start with anything
+        if (hasTopLevelAlternation(regexp)) {
+            return "";
+        }
+
+        StringBuilder prefix = new StringBuilder();
+        int i = regexp.startsWith("^") ? 1 : 0;
+
+        while (i < regexp.length()) {
+            char c = regexp.charAt(i);
+            int next;
+            char literal;
+
+            if (c == '\\') {
+                if (i + 1 >= regexp.length() || Character.isLetterOrDigit(regexp.charAt(i + 1))) {
+                    break;
+                }
+                literal = regexp.charAt(i + 1);
+                next = i + 2;
+            } else if (REGEXP_META.indexOf(c) >= 0) {
+                break;
+            } else {
+                literal = c;
+                next = i + 1;
+            }
+
+            // a quantified character may be absent or repeated, so it is not part of the prefix
+            if (next < regexp.length() && "*?{+".indexOf(regexp.charAt(next)) >= 0) {
+                if (regexp.charAt(next) == '+') {
+                    prefix.append(literal);
+                }
+                break;
+            }
+
+            prefix.append(literal);
+            i = next;
+        }
+
+        return prefix.toString();
+    }
+
+    static String globPrefix(String glob) {
+        StringBuilder prefix = new StringBuilder();
+
+        for (int i = 0; i < glob.length(); i++) {
+            char c = glob.charAt(i);
+
+            if (c == '\\' && i + 1 < glob.length()) {
+                prefix.append(glob.charAt(++i));
+            } else if ("*?[{".indexOf(c) >= 0) {
+                break;
+            } else {
+                prefix.append(c);
+            }
+        }
+
+        return prefix.toString();
+    }
+
+    /**
+     * Converts a glob to a regexp: {@code *} and {@code ?} never cross a {@code /}, {@code **} does, {@code [...]} is a
+     * character class and {@code {a,b}} an alternation.
+     */
+    static String globToRegexp(String glob) {
+        StringBuilder regexp = new StringBuilder();
+        int braces = 0;
+
+        for (int i = 0; i < glob.length(); i++) {
+            char c = glob.charAt(i);
+
+            switch (c) {
+                case '\\' -> {
+                    if (i + 1 < glob.length()) {
+                        regexp.append(Pattern.quote(String.valueOf(glob.charAt(++i))));
+                    } else {
+                        regexp.append("\\\\");
+                    }
+                }
+                case '*' -> {
+                    if (i + 1 < glob.length() && glob.charAt(i + 1) == '*') {
+                        regexp.append(".*");
+                        i++;
+                    } else {
+                        regexp.append("[^/]*");
+                    }
+                }
+                case '?' -> regexp.append("[^/]");
+                case '[' -> {
+                    int end = glob.indexOf(']', i + 2);
+                    if (end < 0) {
+                        regexp.append("\\[");
+                    } else {
+                        String content = glob.substring(i + 1, end);
+                        if (content.startsWith("!")) {
+                            content = "^" + content.substring(1);
+                        }
+                        regexp.append('[').append(content.replace("\\", "\\\\").replace("[", "\\[")).append(']');
+                        i = end;
+                    }
+                }
+                case '{' -> {
+                    regexp.append("(?:");
+                    braces++;
+                }
+                case '}' -> {
+                    if (braces > 0) {
+                        regexp.append(')');
+                        braces--;
+                    } else {
+                        regexp.append("\\}");
+                    }
+                }
+                case ',' -> regexp.append(braces > 0 ? "|" : ",");
+                default -> {
+                    if (REGEXP_META.indexOf(c) >= 0) {
+                        regexp.append('\\');
+                    }
+                    regexp.append(c);
+                }
+            }
+        }
+
+        if (braces > 0) {
+            throw new IllegalArgumentException("Unbalanced braces in glob '" + glob + "'");
+        }
+
+        return regexp.toString();
+    }
+
+    private static boolean hasTopLevelAlternation(String regexp) {
+        int depth = 0;
+        boolean inClass = false;
+
+        for (int i = 0; i < regexp.length(); i++) {
+            char c = regexp.charAt(i);
+
+            if (c == '\\') {
+                i++;
+            } else if (inClass) {
+                inClass = c != ']';
+            } else if (c == '[') {
+                inClass = true;
+            } else if (c == '(') {
+                depth++;
+            } else if (c == ')') {
+                depth--;
+            } else if (c == '|' && depth == 0) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
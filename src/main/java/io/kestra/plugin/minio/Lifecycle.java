@@ -0,0 +1,301 @@
+package io.kestra.plugin.minio;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.annotations.PluginProperty;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.RunnableTask;
+import io.kestra.core.runners.RunContext;
+
+import io.minio.DeleteBucketLifecycleArgs;
+import io.minio.GetBucketLifecycleArgs;
+import io.minio.MinioClient;
+import io.minio.SetBucketLifecycleArgs;
+import io.minio.messages.Filter;
+import io.minio.messages.LifecycleConfiguration;
+import io.minio.messages.Status;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+
+@SuperBuilder
+@ToString
+@EqualsAndHashCode
+@Getter
+@NoArgsConstructor
+@Plugin(
+    examples = {
+        @Example(
+            title = "Expire the objects under `tmp/` after 7 days, and their noncurrent versions after 1 day.",
+            full = true,
+            code = """
+                id: minio_lifecycle
+                namespace: company.team
+
+                tasks:
+                  - id: lifecycle
+                    type: io.kestra.plugin.minio.Lifecycle
+                    accessKeyId: "<access-key>"
+                    secretKeyId: "{{ secret('MINIO_SECRET_KEY_ID') }}"
+                    region: "eu-central-1"
+                    bucket: "my-bucket"
+                    rules:
+                      - id: expire-tmp
+                        prefix: "tmp/"
+                        expirationDays: 7
+                        noncurrentExpirationDays: 1
+                """
+        ),
+        @Example(
+            title = "Remove a lifecycle rule, keeping the other ones.",
+            full = true,
+            code = """
+                id: minio_lifecycle_remove
+                namespace: company.team
+
+                tasks:
+                  - id: lifecycle
+                    type: io.kestra.plugin.minio.Lifecycle
+                    accessKeyId: "<access-key>"
+                    secretKeyId: "{{ secret('MINIO_SECRET_KEY_ID') }}"
+                    region: "eu-central-1"
+                    bucket: "my-bucket"
+                    mode: REMOVE
+                    rules:
+                      - id: expire-tmp
+                """
+        )
+    }
+)
+@Schema(
+    title = "Set the lifecycle rules of a MinIO bucket",
+    description = "Declares expiration and transition rules that the server applies by itself, " +
+        "instead of listing and deleting the objects from a scheduled flow."
+)
+public class Lifecycle extends AbstractMinioObject implements RunnableTask<Lifecycle.Output> {
+
+    public enum Mode {
+        MERGE,
+        REPLACE,
+        REMOVE
+    }
+
+    @Schema(
+        title = "How the rules are applied to the current configuration of the bucket",
+        description = "`MERGE` adds the rules, replacing the existing rules with the same id. " +
+            "`REPLACE` replaces the whole configuration with the rules, removing it when there are none. " +
+            "`REMOVE` removes the rules with the same id, only the `id` of the rules is then used."
+    )
+    @Builder.Default
+    @PluginProperty(group = "main")
+    private Property<Mode> mode = Property.ofValue(Mode.MERGE);
+
+    @Schema(
+        title = "The lifecycle rules"
+    )
+    @PluginProperty(group = "main")
+    private java.util.List<Rule> rules;
+
+    @Override
+    public Output run(RunContext runContext) throws Exception {
+        String bucket = runContext.render(this.bucket).as(String.class).orElseThrow();
+        Mode rMode = runContext.render(this.mode).as(Mode.class).orElse(Mode.MERGE);
+
+        try (MinioClient client = this.client(runContext)) {
+            java.util.List<LifecycleConfiguration.Rule> existing = new ArrayList<>();
+            if (rMode != Mode.REPLACE) {
+                LifecycleConfiguration configuration = client.getBucketLifecycle(GetBucketLifecycleArgs.builder().bucket(bucket).build());
+                if (configuration != null && configuration.rules() != null) {
+                    existing.addAll(configuration.rules());
+                }
+            }
+
+            java.util.List<LifecycleConfiguration.Rule> result = this.configure(runContext, existing);
+
+            if (result.isEmpty()) {
+                client.deleteBucketLifecycle(DeleteBucketLifecycleArgs.builder().bucket(bucket).build());
+            } else {
+                client.setBucketLifecycle(
+                    SetBucketLifecycleArgs.builder()
+                        .bucket(bucket)
+                        .config(new LifecycleConfiguration(result))
+                        .build()
+                );
+            }
+
+            java.util.List<String> ids = result.stream().map(LifecycleConfiguration.Rule::id).toList();
+            runContext.logger().info("Lifecycle of bucket '{}' set to rules {}", bucket, ids);
+
+            return Output.builder()
+                .rules(ids)
+                .build();
+        }
+    }
+
+    /**
+     * Renders the rules and applies them to the existing ones according to the mode. Only the ids are rendered to
+     * remove rules, as a rule without any action cannot be built.
+     */
+    java.util.List<LifecycleConfiguration.Rule> configure(RunContext runContext, java.util.List<LifecycleConfiguration.Rule> existing) throws Exception {
+        Mode rMode = runContext.render(this.mode).as(Mode.class).orElse(Mode.MERGE);
+        java.util.List<Rule> tasks = this.rules == null ? java.util.List.of() : this.rules;
+
+        if (rMode == Mode.REMOVE) {
+            Set<String> ids = new HashSet<>();
+            for (Rule rule : tasks) {
+                ids.add(rule.renderId(runContext));
+            }
+
+            return remove(existing, ids);
+        }
+
+        java.util.List<LifecycleConfiguration.Rule> rRules = new ArrayList<>();
+        for (Rule rule : tasks) {
+            rRules.add(rule.toRule(runContext));
+        }
+
+        return apply(existing, rRules, rMode);
+    }
+
+    static java.util.List<LifecycleConfiguration.Rule> remove(java.util.List<LifecycleConfiguration.Rule> existing, Set<String> ids) {
+        return existing.stream()
+            .filter(rule -> !ids.contains(rule.id()))
+            .toList();
+    }
+
+    /**
+     * Applies the rules to the existing ones, rules being identified by their id.
+     */
+    static java.util.List<LifecycleConfiguration.Rule> apply(
+        java.util.List<LifecycleConfiguration.Rule> existing,
+        java.util.List<LifecycleConfiguration.Rule> rules,
+        Mode mode
+    ) {
+        if (mode == Mode.REPLACE) {
+            return java.util.List.copyOf(rules);
+        }
+
+        Map<String, LifecycleConfiguration.Rule> byId = new LinkedHashMap<>();
+        existing.forEach(rule -> byId.put(rule.id(), rule));
+        rules.forEach(rule -> byId.put(rule.id(), rule));
+
+        return java.util.List.copyOf(byId.values());
+    }
+
+    @SuperBuilder(toBuilder = true)
+    @Getter
+    @NoArgsConstructor
+    public static class Rule {
+        @Schema(
+            title = "The unique id of the rule"
+        )
+        @NotNull
+        private Property<String> id;
+
+        @Schema(
+            title = "Only apply the rule to the keys starting with this prefix"
+        )
+        private Property<String> prefix;
+
+        @Schema(
+            title = "Whether the rule is enabled"
+        )
+        @Builder.Default
+        private Property<Boolean> enabled = Property.ofValue(true);
+
+        @Schema(
+            title = "Expire the current version of the objects this number of days after their creation"
+        )
+        private Property<Integer> expirationDays;
+
+        @Schema(
+            title = "Remove the delete markers left without any noncurrent version",
+            description = "Cannot be combined with `expirationDays`."
+        )
+        private Property<Boolean> expiredObjectDeleteMarker;
+
+        @Schema(
+            title = "Delete the noncurrent versions this number of days after they became noncurrent"
+        )
+        private Property<Integer> noncurrentExpirationDays;
+
+        @Schema(
+            title = "The number of newest noncurrent versions kept by `noncurrentExpirationDays`"
+        )
+        private Property<Integer> newerNoncurrentVersions;
+
+        @Schema(
+            title = "Transition the objects to `transitionStorageClass` this number of days after their creation"
+        )
+        private Property<Integer> transitionDays;
+
+        @Schema(
+            title = "The storage class, or remote tier on MinIO, the objects are transitioned to"
+        )
+        private Property<String> transitionStorageClass;
+
+        @Schema(
+            title = "Abort the incomplete multipart uploads this number of days after they were initiated"
+        )
+        private Property<Integer> abortIncompleteMultipartUploadDays;
+
+        LifecycleConfiguration.Rule toRule(RunContext runContext) throws Exception {
+            String rId = this.renderId(runContext);
+            Integer rExpirationDays = runContext.render(this.expirationDays).as(Integer.class).orElse(null);
+            Boolean rExpiredObjectDeleteMarker = runContext.render(this.expiredObjectDeleteMarker).as(Boolean.class).orElse(null);
+            Integer rNoncurrentExpirationDays = runContext.render(this.noncurrentExpirationDays).as(Integer.class).orElse(null);
+            Integer rTransitionDays = runContext.render(this.transitionDays).as(Integer.class).orElse(null);
+            String rTransitionStorageClass = runContext.render(this.transitionStorageClass).as(String.class).orElse(null);
+            Integer rAbortDays = runContext.render(this.abortIncompleteMultipartUploadDays).as(Integer.class).orElse(null);
+
+            if (rExpirationDays == null && rExpiredObjectDeleteMarker == null && rNoncurrentExpirationDays == null &&
+                rTransitionDays == null && rAbortDays == null) {
+                throw new IllegalArgumentException("Lifecycle rule '" + rId + "' has no expiration, transition or abort action");
+            }
+
+            if (rTransitionDays != null && rTransitionStorageClass == null) {
+                throw new IllegalArgumentException("Lifecycle rule '" + rId + "' requires a 'transitionStorageClass' with 'transitionDays'");
+            }
+
+            return new LifecycleConfiguration.Rule(
+                runContext.render(this.enabled).as(Boolean.class).orElse(true) ? Status.ENABLED : Status.DISABLED,
+                rAbortDays == null ? null : new LifecycleConfiguration.AbortIncompleteMultipartUpload(rAbortDays),
+                rExpirationDays == null && rExpiredObjectDeleteMarker == null ?
+                    null :
+                    new LifecycleConfiguration.Expiration((ZonedDateTime) null, rExpirationDays, rExpiredObjectDeleteMarker, null),
+                new Filter(runContext.render(this.prefix).as(String.class).orElse("")),
+                rId,
+                rNoncurrentExpirationDays == null ?
+                    null :
+                    new LifecycleConfiguration.NoncurrentVersionExpiration(
+                        rNoncurrentExpirationDays,
+                        runContext.render(this.newerNoncurrentVersions).as(Integer.class).orElse(null)
+                    ),
+                null,
+                rTransitionDays == null ? null : new LifecycleConfiguration.Transition((ZonedDateTime) null, rTransitionDays, rTransitionStorageClass)
+            );
+        }
+
+        String renderId(RunContext runContext) throws Exception {
+            return runContext.render(this.id).as(String.class).orElseThrow();
+        }
+    }
+
+    @Builder
+    @Getter
+    public static class Output implements io.kestra.core.models.tasks.Output {
+        @Schema(
+            title = "The ids of the rules of the bucket once applied"
+        )
+        private final java.util.List<String> rules;
+    }
+
+}
@@ -1,7 +1,20 @@
 package io.kestra.plugin.minio;
 
-import java.util.Spliterator;
-import java.util.stream.StreamSupport;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.Writer;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.Function;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 
@@ -9,20 +22,29 @@ import io.kestra.core.models.annotations.Example;
 import io.kestra.core.models.annotations.Metric;
 import io.kestra.core.models.annotations.Plugin;
 import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.models.executions.metrics.Timer;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.models.tasks.RunnableTask;
+import io.kestra.core.models.tasks.common.FetchType;
 import io.kestra.core.runners.RunContext;
+import io.kestra.core.serializers.FileSerde;
 import io.kestra.plugin.minio.model.MinioObject;
 
 import io.minio.ListObjectsArgs;
 import io.minio.MinioClient;
 import io.minio.Result;
+import io.minio.StatObjectArgs;
+import io.minio.StatObjectResponse;
 import io.minio.messages.Item;
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SynchronousSink;
+import reactor.core.scheduler.Schedulers;
 
-import static io.kestra.core.utils.Rethrow.throwFunction;
 import io.kestra.core.models.annotations.PluginProperty;
 
 @SuperBuilder
@@ -63,6 +85,24 @@ import io.kestra.core.models.annotations.PluginProperty;
                     endpoint: https://<region>.digitaloceanspaces.com
                     bucket: "kestra-test-bucket"
                 """
+        ),
+        @Example(
+            title = "List a large prefix into an ion file on internal storage instead of the task output.",
+            full = true,
+            code = """
+                id: minio_list_store
+                namespace: company.team
+
+                tasks:
+                  - id: list_objects
+                    type: io.kestra.plugin.minio.List
+                    accessKeyId: "<access-key>"
+                    secretKeyId: "{{ secret('MINIO_SECRET_KEY_ID') }}"
+                    region: "eu-central-1"
+                    bucket: "my-bucket"
+                    prefix: "logs/"
+                    fetchType: STORE
+                """
         )
     },
     metrics = {
@@ -71,6 +111,51 @@ import io.kestra.core.models.annotations.PluginProperty;
             type = Counter.TYPE,
             unit = "count",
             description = "Number of objects returned from the MinIO bucket list."
+        ),
+        @Metric(
+            name = "keys.listed",
+            type = Counter.TYPE,
+            unit = "count",
+            description = "Number of keys returned by the server, before filtering."
+        ),
+        @Metric(
+            name = "keys.matched",
+            type = Counter.TYPE,
+            unit = "count",
+            description = "Number of keys matching the filters."
+        ),
+        @Metric(
+            name = "keys.bytes",
+            type = Counter.TYPE,
+            unit = "bytes",
+            description = "Total size of the objects matching the filters."
+        ),
+        @Metric(
+            name = "keys.per.second",
+            type = Counter.TYPE,
+            unit = "count",
+            description = "Number of keys listed per second."
+        ),
+        @Metric(
+            name = "pages",
+            type = Counter.TYPE,
+            unit = "count",
+            description = "Number of listing requests sent to the server."
+        ),
+        @Metric(
+            name = "list.duration",
+            type = Timer.TYPE,
+            description = "Duration of the whole listing."
+        ),
+        @Metric(
+            name = "page.duration",
+            type = Timer.TYPE,
+            description = "Average latency of a listing request."
+        ),
+        @Metric(
+            name = "page.duration.max",
+            type = Timer.TYPE,
+            description = "Maximum latency of a listing request."
         )
     }
 )
@@ -128,6 +213,15 @@ public class List extends AbstractMinioObject implements RunnableTask<List.Outpu
     @PluginProperty(group = "processing")
     protected Property<String> regexp;
 
+    @Schema(
+        title = "A glob to filter on full key",
+        description = "`*` and `?` match within a path segment, `**` across segments, `[abc]` is a character class and `{a,b}` an alternative. ex:\n" +
+            "`glob: logs/2020-01-*/**.csv` to match the `.csv` files under every directory of january 2020\n" +
+            "The literal start of `regexp` or `glob` is used as the listing prefix when it is more specific than `prefix`."
+    )
+    @PluginProperty(group = "processing")
+    protected Property<String> glob;
+
     @Schema(
         title = "The type of objects to filter: files, directory, or both"
     )
@@ -149,58 +243,442 @@ public class List extends AbstractMinioObject implements RunnableTask<List.Outpu
     @PluginProperty(group = "advanced")
     public Property<Boolean> includeVersions = Property.ofValue(true);
 
+    @Schema(
+        title = "The maximum number of objects to return",
+        description = "The listing stops as soon as this many objects matched the filters, so peeking at a large prefix only costs a few requests. " +
+            "Without `regexp`, `glob` or `filter`, the page size is also lowered to the limit."
+    )
+    @PluginProperty(group = "processing")
+    private Property<Integer> limit;
+
+    @Schema(
+        title = "The fields of the objects to return",
+        description = "Fields not listed are neither requested nor converted, which cuts the allocations of very large listings. " +
+            "The key is always returned, the owner is only requested from the server when `OWNER` is listed. Defaults to every field."
+    )
+    @PluginProperty(group = "processing")
+    private Property<java.util.List<MinioObject.Field>> fields;
+
+    @Schema(
+        title = "Whether to return the content type and user metadata of the objects",
+        description = "The metadata is requested inline with the listing through the MinIO extension. " +
+            "For servers that do not support it, each object is stat-ed instead, with at most `metadataConcurrency` concurrent requests."
+    )
+    @Builder.Default
+    @PluginProperty(group = "processing")
+    private Property<Boolean> includeUserMetadata = Property.ofValue(false);
+
+    @Schema(
+        title = "The maximum number of concurrent requests to fetch metadata on servers without inline metadata listing"
+    )
+    @Builder.Default
+    @PluginProperty(group = "execution")
+    private Property<Integer> metadataConcurrency = Property.ofValue(16);
+
+    @Schema(
+        title = "Sort the objects on this field",
+        description = "Without `top`, every matched object is held in memory to be sorted."
+    )
+    @PluginProperty(group = "processing")
+    private Property<SortBy> sortBy;
+
+    @Schema(
+        title = "The sort order"
+    )
+    @Builder.Default
+    @PluginProperty(group = "processing")
+    private Property<Order> order = Property.ofValue(Order.ASC);
+
+    @Schema(
+        title = "Only keep the first objects of the sort",
+        description = "Requires `sortBy`. The objects are kept in a bounded heap while the listing streams, " +
+            "so memory only depends on `top`, e.g. `sortBy: LAST_MODIFIED`, `order: DESC` and `top: 10` returns the 10 most recent objects."
+    )
+    @PluginProperty(group = "processing")
+    private Property<Integer> top;
+
+    @Schema(
+        title = "The way the listed objects are returned",
+        description = "`FETCH` returns every object in the task output, `FETCH_ONE` only the first one, " +
+            "`STORE` streams the objects into an ion file on internal storage as they are listed and only outputs its URI, " +
+            "`NONE` only counts the objects."
+    )
+    @Builder.Default
+    @PluginProperty(group = "processing")
+    private Property<FetchType> fetchType = Property.ofValue(FetchType.FETCH);
+
+    @Schema(
+        title = "List the keyspace as partitions in parallel",
+        description = "A single listing is sequential, 1,000 keys per request. When set, the keyspace under `prefix` is split into partitions " +
+            "that are listed concurrently and merged as a stream."
+    )
+    @PluginProperty(group = "execution")
+    private ParallelListing parallel;
+
+    @Schema(
+        title = "Read the keys from an S3 inventory report instead of listing the bucket",
+        description = "The data files of the inventory manifest are streamed, and `prefix`, `startAfter`, `marker`, `regexp`, `glob`, `filter`, " +
+            "`includeVersions`, `limit` and the sort apply to their rows as they would to a listing. Only CSV inventories are supported. " +
+            "An inventory is a flat list of keys: `delimiter`, `recursive` and `parallel` do not apply, and the user metadata is not available."
+    )
+    @PluginProperty(group = "source")
+    private InventorySource inventory;
+
     @Override
     public Output run(RunContext runContext) throws Exception {
-        String bucket = runContext.render(this.bucket).as(String.class).orElse(null);
+        FetchType rFetchType = runContext.render(this.fetchType).as(FetchType.class).orElse(FetchType.FETCH);
 
         try (MinioClient client = this.client(runContext)) {
+            ListingMetrics metrics = new ListingMetrics();
+            Flux<MinioObject> objects = this.stream(runContext, client, metrics);
+
+            Output output = switch (rFetchType) {
+                case FETCH -> {
+                    java.util.List<MinioObject> fetched = Objects.requireNonNull(objects.collectList().block());
+                    yield Output.builder().objects(fetched).count(fetched.size()).build();
+                }
+                case FETCH_ONE -> {
+                    java.util.List<MinioObject> fetched = Objects.requireNonNull(objects.take(1).collectList().block());
+                    yield Output.builder().objects(fetched).count(fetched.size()).build();
+                }
+                case STORE -> {
+                    File tempFile = runContext.workingDir().createTempFile(".ion").toFile();
+                    Long count;
+                    try (Writer writer = new BufferedWriter(new FileWriter(tempFile), FileSerde.BUFFER_SIZE)) {
+                        count = FileSerde.writeAll(writer, objects).block();
+                    }
+                    URI uri = runContext.storage().putFile(tempFile);
+                    yield Output.builder().uri(uri).count(Objects.requireNonNull(count)).build();
+                }
+                case NONE -> Output.builder().count(Objects.requireNonNull(objects.count().block())).build();
+            };
+
+            runContext.metric(Counter.of("size", output.getCount()));
+            metrics.report(runContext);
+
+            return output;
+        }
+    }
+
+    /**
+     * Lists the bucket lazily: pages are only requested as the returned flux is consumed.
+     */
+    Flux<MinioObject> stream(RunContext runContext, MinioClient client, ListingMetrics metrics) throws Exception {
+        String bucket = runContext.render(this.bucket).as(String.class).orElse(null);
+        String regExp = runContext.render(this.regexp).as(String.class).orElse(null);
+        String rGlob = runContext.render(this.glob).as(String.class).orElse(null);
+        KeyFilter keyFilter = KeyFilter.of(regExp, rGlob);
+        var filterValue = runContext.render(this.filter).as(Filter.class).orElseThrow();
+        Integer rLimit = runContext.render(this.limit).as(Integer.class).orElse(null);
+        SortBy rSortBy = runContext.render(this.sortBy).as(SortBy.class).orElse(null);
+        Set<MinioObject.Field> rFields = this.fields(runContext, rSortBy);
+        boolean rIncludeUserMetadata = runContext.render(this.includeUserMetadata).as(Boolean.class).orElse(false);
+
+        String rStartAfter = runContext.render(this.startAfter).as(String.class).orElse(null);
+        String rDelimiter = runContext.render(this.delimiter).as(String.class).orElse(null);
+        String rMarker = runContext.render(this.marker).as(String.class).orElse(null);
+        boolean rRecursive = runContext.render(recursive).as(Boolean.class).orElseThrow();
+
+        // only the keys starting with the literal part of the patterns can match, no need to list the others
+        String rPrefix = keyFilter.narrow(
+            runContext.render(this.prefix).as(String.class).orElse(null),
+            rDelimiter != null ? rDelimiter : (rRecursive ? null : "/")
+        );
+        Boolean rIncludeVersions = runContext.render(this.includeVersions).as(Boolean.class).orElse(null);
+
+        // every listed key is returned when nothing is filtered, so there is no need to fetch more than the limit
+        int rMaxKeys = runContext.render(this.maxKeys).as(Integer.class).orElseThrow();
+        int pageSize = rLimit != null && regExp == null && rGlob == null && filterValue == Filter.BOTH ?
+            Math.min(rMaxKeys, rLimit) :
+            rMaxKeys;
+
+        Listing listing = (listPrefix, listStartAfter, listRecursive) -> {
             ListObjectsArgs.Builder requestBuilder = ListObjectsArgs
                 .builder()
                 .bucket(bucket)
-                .recursive(runContext.render(recursive).as(Boolean.class).orElseThrow())
-                .maxKeys(runContext.render(this.maxKeys).as(Integer.class).orElseThrow());
+                .recursive(listRecursive)
+                .maxKeys(pageSize);
+
+            if (listPrefix != null) {
+                requestBuilder.prefix(listPrefix);
+            }
+            if (listStartAfter != null) {
+                requestBuilder.startAfter(listStartAfter);
+            }
+            if (rDelimiter != null) {
+                requestBuilder.delimiter(rDelimiter);
+            }
+            if (rIncludeVersions != null) {
+                requestBuilder.includeVersions(rIncludeVersions);
+            }
+            if (this.fields != null) {
+                requestBuilder.fetchOwner(rFields.contains(MinioObject.Field.OWNER));
+            }
+            if (rIncludeUserMetadata) {
+                requestBuilder.includeUserMetadata(true);
+            }
+
+            return Flux.fromIterable(metrics.instrument(client.listObjects(requestBuilder.build()), pageSize))
+                .handle((Result<Item> result, SynchronousSink<Item> sink) -> {
+                    try {
+                        sink.next(result.get());
+                    } catch (Exception e) {
+                        sink.error(e);
+                    }
+                });
+        };
 
-            runContext.render(this.prefix).as(String.class).ifPresent(requestBuilder::prefix);
-            runContext.render(this.startAfter).as(String.class).ifPresent(requestBuilder::startAfter);
-            runContext.render(this.delimiter).as(String.class).ifPresent(requestBuilder::delimiter);
-            runContext.render(this.marker).as(String.class).ifPresent(requestBuilder::marker);
-            runContext.render(this.includeVersions).as(Boolean.class).ifPresent(requestBuilder::includeVersions);
+        runContext.logger().debug(
+            "Listing keys on {} with regexp='{}', glob='{}', prefix={}",
+            bucket,
+            regExp,
+            rGlob,
+            rPrefix
+        );
 
-            String regExp = runContext.render(this.regexp).as(String.class).orElse(null);
+        // start-after and marker are the same key marker in the SDK, the furthest one wins
+        String from = rMarker == null || (rStartAfter != null && compareKeys(rStartAfter, rMarker) > 0) ? rStartAfter : rMarker;
 
-            Iterable<Result<Item>> response = client.listObjects(requestBuilder.build());
+        Flux<MinioObject> objects;
+        if (this.inventory != null) {
+            objects = this.inventory(runContext, client, bucket, rFields, Boolean.TRUE.equals(rIncludeVersions), metrics)
+                .filter(object -> object.getKey().startsWith(rPrefix == null ? "" : rPrefix))
+                .filter(object -> from == null || compareKeys(object.getKey(), from) > 0)
+                .filter(object -> filter(object.getKey(), keyFilter, filterValue))
+                .doOnNext(object -> metrics.matched(object.getSize() == null ? 0 : object.getSize()));
+        } else {
+            Flux<Item> items = this.parallel == null ?
+                listing.list(rPrefix, from, rRecursive) :
+                this.partitioned(runContext, listing, rPrefix, from, rDelimiter, rRecursive);
 
-            Spliterator<Result<Item>> spliterator = response.spliterator();
+            Flux<Item> matched = items
+                .filter(item -> filter(item.objectName(), keyFilter, filterValue))
+                .doOnNext(metrics::matched);
 
-            runContext.metric(Counter.of("size", spliterator.getExactSizeIfKnown()));
+            objects = this.objects(runContext, client, bucket, matched, rFields, rIncludeUserMetadata);
+        }
+
+        // cancelling the flux stops the pagination of the SDK iterable
+        if (rLimit != null) {
+            objects = objects.take(rLimit);
+        }
+
+        Integer rTop = runContext.render(this.top).as(Integer.class).orElse(null);
+
+        if (rSortBy == null) {
+            if (rTop != null) {
+                throw new IllegalArgumentException("'top' requires 'sortBy'");
+            }
+
+            return objects;
+        }
+
+        Comparator<MinioObject> comparator = rSortBy.comparator();
+        if (runContext.render(this.order).as(Order.class).orElse(Order.ASC) == Order.DESC) {
+            comparator = comparator.reversed();
+        }
+
+        if (rTop == null) {
+            return objects.sort(comparator);
+        }
+
+        return top(objects, comparator, rTop);
+    }
 
-            runContext.logger().debug(
-                "Found '{}' keys on {} with regexp='{}', prefix={}",
-                spliterator.getExactSizeIfKnown(),
-                bucket,
-                regExp,
-                runContext.render(this.prefix).as(String.class).orElse(null)
+    private Flux<MinioObject> inventory(
+        RunContext runContext,
+        MinioClient client,
+        String bucket,
+        Set<MinioObject.Field> fields,
+        boolean includeVersions,
+        ListingMetrics metrics
+    ) throws Exception {
+        String rInventoryBucket = runContext.render(this.inventory.getBucket()).as(String.class).orElse(bucket);
+        String rManifest = runContext.render(this.inventory.getManifest()).as(String.class).orElseThrow();
+
+        if (this.parallel != null || this.delimiter != null) {
+            runContext.logger().warn("An inventory is a flat list of keys, 'parallel' and 'delimiter' are ignored");
+        }
+
+        InventoryReader reader = InventoryReader.of(client, rInventoryBucket, rManifest);
+
+        runContext.logger().debug("Reading the inventory of '{}' from 's3://{}/{}'", bucket, rInventoryBucket, rManifest);
+
+        return reader.objects(fields, includeVersions, metrics);
+    }
+
+    private Flux<MinioObject> objects(
+        RunContext runContext,
+        MinioClient client,
+        String bucket,
+        Flux<Item> matched,
+        Set<MinioObject.Field> rFields,
+        boolean rIncludeUserMetadata
+    ) throws Exception {
+        Flux<MinioObject> objects;
+        if (rIncludeUserMetadata) {
+            int rMetadataConcurrency = runContext.render(this.metadataConcurrency).as(Integer.class).orElse(16);
+
+            objects = matched.flatMapSequential(
+                item -> item.userMetadata() != null || item.isDir() || item.isDeleteMarker() ?
+                    Mono.just(MinioObject.of(item, rFields)) :
+                    Mono.fromCallable(() -> withMetadata(client, bucket, item, rFields)).subscribeOn(Schedulers.boundedElastic()),
+                rMetadataConcurrency
             );
+        } else {
+            objects = matched.map(item -> MinioObject.of(item, rFields));
+        }
 
-            var filterValue = runContext.render(this.filter).as(Filter.class).orElseThrow();
-            java.util.List<MinioObject> minioObjects = StreamSupport.stream(spliterator, false)
-                .map(throwFunction(Result::get))
-                .filter(item -> filter(item, regExp, filterValue))
-                .map(MinioObject::of)
-                .toList();
+        return objects;
+    }
 
-            return Output
-                .builder()
-                .objects(minioObjects)
-                .build();
+    /**
+     * Fallback for servers that do not return the user metadata inline with the listing.
+     */
+    private static MinioObject withMetadata(MinioClient client, String bucket, Item item, Set<MinioObject.Field> fields) throws Exception {
+        StatObjectArgs.Builder request = StatObjectArgs.builder()
+            .bucket(bucket)
+            .object(item.objectName());
+
+        if (item.versionId() != null && !item.versionId().equals("null")) {
+            request.versionId(item.versionId());
         }
+
+        StatObjectResponse stat = client.statObject(request.build());
+
+        Map<String, String> userMetadata = new HashMap<>();
+        for (String name : stat.userMetadata().names()) {
+            userMetadata.put(name, stat.userMetadata().getFirst(name));
+        }
+
+        MinioObject object = MinioObject.of(item, fields);
+        object.setContentType(stat.contentType());
+        object.setUserMetadata(userMetadata);
+
+        return object;
     }
 
-    private boolean filter(Item object, String regExp, Filter filter) {
-        return (regExp == null || object.objectName().matches(regExp)) &&
+    private Set<MinioObject.Field> fields(RunContext runContext, SortBy sortBy) throws Exception {
+        java.util.List<MinioObject.Field> rFields = runContext.render(this.fields).asList(MinioObject.Field.class);
+        if (rFields.isEmpty()) {
+            return EnumSet.allOf(MinioObject.Field.class);
+        }
+
+        Set<MinioObject.Field> projection = EnumSet.copyOf(rFields);
+        projection.add(MinioObject.Field.KEY);
+
+        // the sort field is needed even when not returned
+        if (sortBy == SortBy.SIZE) {
+            projection.add(MinioObject.Field.SIZE);
+        } else if (sortBy == SortBy.LAST_MODIFIED) {
+            projection.add(MinioObject.Field.LAST_MODIFIED);
+        }
+
+        return projection;
+    }
+
+    /**
+     * Keeps the first {@code n} objects of the sort in a heap whose head is the worst one kept, then emits them sorted.
+     */
+    static Flux<MinioObject> top(Flux<MinioObject> objects, Comparator<MinioObject> comparator, int n) {
+        return objects
+            .collect(
+                () -> new PriorityQueue<>(n + 1, comparator.reversed()),
+                (PriorityQueue<MinioObject> heap, MinioObject object) -> {
+                    heap.offer(object);
+                    if (heap.size() > n) {
+                        heap.poll();
+                    }
+                }
+            )
+            .flatMapIterable(heap -> heap.stream().sorted(comparator).toList());
+    }
+
+    private Flux<Item> partitioned(RunContext runContext, Listing listing, String prefix, String startAfter, String delimiter, boolean recursive) throws Exception {
+        PartitionStrategy rStrategy = runContext.render(this.parallel.getStrategy()).as(PartitionStrategy.class).orElse(PartitionStrategy.DELIMITER);
+        int rConcurrency = runContext.render(this.parallel.getConcurrency()).as(Integer.class).orElse(8);
+        boolean rOrdered = runContext.render(this.parallel.getOrdered()).as(Boolean.class).orElse(false);
+        String base = prefix == null ? "" : prefix;
+
+        if (rStrategy == PartitionStrategy.DELIMITER) {
+            if (!recursive) {
+                runContext.logger().warn("Delimiter partitioning only applies to recursive listings, listing sequentially");
+                return listing.list(prefix, startAfter, false);
+            }
+
+            // the first level is listed with the delimiter, every common prefix found is then a partition listed recursively
+            Flux<Item> firstLevel = listing.list(prefix, startAfter, false);
+            if (rOrdered) {
+                firstLevel = firstLevel
+                    .collectSortedList((a, b) -> compareKeys(a.objectName(), b.objectName()))
+                    .flatMapIterable(sorted -> sorted);
+            }
+
+            runContext.logger().debug("Listing the prefixes under '{}' with {} concurrent partitions", base, rConcurrency);
+
+            return merge(
+                firstLevel,
+                item -> item.isDir() ? listing.list(item.objectName(), startAfter, true) : Flux.just(item),
+                rConcurrency,
+                rOrdered
+            );
+        }
+
+        String rCharacters = runContext.render(this.parallel.getCharacters()).as(String.class).orElseThrow();
+        java.util.List<String> boundaries = rCharacters.codePoints()
+            .mapToObj(codePoint -> base + Character.toString(codePoint))
+            .distinct()
+            .sorted(List::compareKeys)
+            .toList();
+
+        runContext.logger().debug("Listing '{}' in {} character ranges with {} concurrent partitions", base, boundaries.size() + 1, rConcurrency);
+
+        // partition i holds the keys in (boundaries[i - 1], boundaries[i]], start-after being exclusive
+        return merge(
+            Flux.range(0, boundaries.size() + 1),
+            i -> {
+                String lower = i == 0 ? null : boundaries.get(i - 1);
+                String upper = i == boundaries.size() ? null : boundaries.get(i);
+
+                if (startAfter != null && upper != null && compareKeys(startAfter, upper) >= 0) {
+                    return Flux.empty();
+                }
+
+                String from = lower == null || (startAfter != null && compareKeys(startAfter, lower) > 0) ? startAfter : lower;
+                Flux<Item> partition = listing.list(prefix, from, recursive);
+
+                return upper == null ? partition : partition.takeWhile(item -> compareKeys(item.objectName(), upper) <= 0);
+            },
+            rConcurrency,
+            rOrdered
+        );
+    }
+
+    private static <T> Flux<Item> merge(Flux<T> partitions, Function<T, Flux<Item>> lister, int concurrency, boolean ordered) {
+        Function<T, Flux<Item>> onWorker = partition -> Flux.defer(() -> lister.apply(partition)).subscribeOn(Schedulers.boundedElastic());
+
+        return ordered ?
+            partitions.flatMapSequential(onWorker, concurrency) :
+            partitions.flatMap(onWorker, concurrency);
+    }
+
+    /**
+     * Compares keys the way S3 sorts them, by their UTF-8 bytes.
+     */
+    private static int compareKeys(String a, String b) {
+        return Arrays.compareUnsigned(a.getBytes(StandardCharsets.UTF_8), b.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @FunctionalInterface
+    private interface Listing {
+        Flux<Item> list(String prefix, String startAfter, boolean recursive);
+    }
+
+    private boolean filter(String key, KeyFilter keyFilter, Filter filter) {
+        return keyFilter.matches(key) &&
             (filter.equals(Filter.BOTH) ||
-                (filter.equals(Filter.DIRECTORY) && object.objectName().endsWith("/")) ||
-                (filter.equals(Filter.FILES) && !object.objectName().endsWith("/")));
+                (filter.equals(Filter.DIRECTORY) && key.endsWith("/")) ||
+                (filter.equals(Filter.FILES) && !key.endsWith("/")));
     }
 
     @Builder
@@ -208,9 +686,100 @@ public class List extends AbstractMinioObject implements RunnableTask<List.Outpu
     public static class Output implements io.kestra.core.models.tasks.Output {
         @JsonInclude
         @Schema(
-            title = "The list of objects"
+            title = "The list of objects",
+            description = "Only populated with `fetchType: FETCH` or `FETCH_ONE`."
         )
         private final java.util.List<MinioObject> objects;
+
+        @Schema(
+            title = "The URI of the ion file holding the objects",
+            description = "Only populated with `fetchType: STORE`."
+        )
+        private final URI uri;
+
+        @Schema(
+            title = "The number of objects listed"
+        )
+        private final long count;
+    }
+
+    public enum SortBy {
+        LAST_MODIFIED(Comparator.comparing(MinioObject::getLastModified, Comparator.nullsFirst(Comparator.naturalOrder()))),
+        SIZE(Comparator.comparing(MinioObject::getSize, Comparator.nullsFirst(Comparator.naturalOrder()))),
+        KEY(Comparator.comparing(MinioObject::getKey));
+
+        private final Comparator<MinioObject> comparator;
+
+        SortBy(Comparator<MinioObject> comparator) {
+            this.comparator = comparator;
+        }
+
+        Comparator<MinioObject> comparator() {
+            return this == KEY ? comparator : comparator.thenComparing(MinioObject::getKey);
+        }
+    }
+
+    public enum Order {
+        ASC,
+        DESC
+    }
+
+    public enum PartitionStrategy {
+        DELIMITER,
+        CHARACTER_RANGE
+    }
+
+    @SuperBuilder(toBuilder = true)
+    @Getter
+    @NoArgsConstructor
+    public static class InventorySource {
+        @Schema(
+            title = "The bucket where the inventory reports are stored",
+            description = "Defaults to the listed bucket."
+        )
+        private Property<String> bucket;
+
+        @Schema(
+            title = "The key of the inventory `manifest.json`",
+            description = "When the key does not end with `manifest.json`, it is a prefix under which the most recent manifest is read, " +
+                "e.g. `inventories/my-bucket/daily/`."
+        )
+        @NotNull
+        private Property<String> manifest;
+    }
+
+    @SuperBuilder(toBuilder = true)
+    @Getter
+    @NoArgsConstructor
+    public static class ParallelListing {
+        @Schema(
+            title = "How the keyspace is split into partitions",
+            description = "`DELIMITER` lists the first level under `prefix` with the delimiter, then lists every sub-prefix found recursively. " +
+                "`CHARACTER_RANGE` splits the keys under `prefix` into ranges bounded by `characters`."
+        )
+        @Builder.Default
+        private Property<PartitionStrategy> strategy = Property.ofValue(PartitionStrategy.DELIMITER);
+
+        @Schema(
+            title = "The characters splitting the keyspace with `CHARACTER_RANGE`",
+            description = "Each character, appended to `prefix`, is the upper bound of a partition. " +
+                "Keys outside of these characters are still listed, in the partition of the nearest lower character."
+        )
+        @Builder.Default
+        private Property<String> characters = Property.ofValue("0123456789abcdefghijklmnopqrstuvwxyz");
+
+        @Schema(
+            title = "The maximum number of partitions listed concurrently"
+        )
+        @Builder.Default
+        private Property<Integer> concurrency = Property.ofValue(8);
+
+        @Schema(
+            title = "Whether to return the objects ordered by key",
+            description = "Partitions are still listed concurrently, but the results of a partition are held back until the previous ones are complete."
+        )
+        @Builder.Default
+        private Property<Boolean> ordered = Property.ofValue(false);
     }
 
 }
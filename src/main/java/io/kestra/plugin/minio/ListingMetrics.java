@@ -0,0 +1,131 @@
+package io.kestra.plugin.minio;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.models.executions.metrics.Timer;
+import io.kestra.core.runners.RunContext;
+
+import io.minio.Result;
+import io.minio.messages.Item;
+
+/**
+ * Counts a listing while it is streamed: keys listed and matched, pages fetched and their latency, bytes matched.
+ * <p>
+ * The SDK iterable only sends a request when the current page is exhausted, so a page is timed at every
+ * {@code maxKeys} boundary. Counters are atomic as partitions of a parallel listing are consumed concurrently.
+ */
+public class ListingMetrics {
+    private final long startedAt = System.nanoTime();
+
+    private final AtomicLong listed = new AtomicLong();
+    private final AtomicLong matched = new AtomicLong();
+    private final AtomicLong bytes = new AtomicLong();
+    private final AtomicLong pages = new AtomicLong();
+    private final AtomicLong pageNanos = new AtomicLong();
+    private final AtomicLong maxPageNanos = new AtomicLong();
+
+    public Iterable<Result<Item>> instrument(Iterable<Result<Item>> iterable, int pageSize) {
+        return () -> new Iterator<>() {
+            private final Iterator<Result<Item>> delegate = iterable.iterator();
+            private long position = 0;
+            private long timedPosition = -1;
+
+            @Override
+            public boolean hasNext() {
+                if (position % pageSize != 0 || position == timedPosition) {
+                    return delegate.hasNext();
+                }
+
+                long start = System.nanoTime();
+                boolean hasNext = delegate.hasNext();
+                timedPosition = position;
+
+                // an empty listing still costs one request, an exhausted one none
+                if (hasNext || position == 0) {
+                    page(System.nanoTime() - start);
+                }
+
+                return hasNext;
+            }
+
+            @Override
+            public Result<Item> next() {
+                position++;
+                listed.incrementAndGet();
+
+                return delegate.next();
+            }
+        };
+    }
+
+    /**
+     * Counts a page fetched outside of {@link #instrument}, like a page of versions, and the keys it holds.
+     */
+    public void page(long nanos, int keys) {
+        listed.addAndGet(keys);
+        page(nanos);
+    }
+
+    /**
+     * Counts a key read from another source than a listing, like an inventory file.
+     */
+    public void listed() {
+        listed.incrementAndGet();
+    }
+
+    public void matched(Item item) {
+        matched(item.isDir() ? 0 : item.size());
+    }
+
+    public void matched(long size) {
+        matched.incrementAndGet();
+        bytes.addAndGet(size);
+    }
+
+    public long getListed() {
+        return listed.get();
+    }
+
+    public long getMatched() {
+        return matched.get();
+    }
+
+    public long getPages() {
+        return pages.get();
+    }
+
+    public void report(RunContext runContext) {
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+        long rPages = pages.get();
+
+        runContext.metric(Counter.of("keys.listed", listed.get()));
+        runContext.metric(Counter.of("keys.matched", matched.get()));
+        runContext.metric(Counter.of("keys.bytes", "bytes", bytes.get()));
+        runContext.metric(Counter.of("pages", rPages));
+        runContext.metric(Counter.of("keys.per.second", listed.get() * 1_000_000_000.0 / Math.max(1, elapsed.toNanos())));
+        runContext.metric(Timer.of("list.duration", elapsed));
+
+        if (rPages > 0) {
+            runContext.metric(Timer.of("page.duration", Duration.ofNanos(pageNanos.get() / rPages)));
+            runContext.metric(Timer.of("page.duration.max", Duration.ofNanos(maxPageNanos.get())));
+        }
+
+        runContext.logger().debug(
+            "Listed {} keys in {} pages ({}), {} matched for {} bytes",
+            listed.get(),
+            rPages,
+            elapsed,
+            matched.get(),
+            bytes.get()
+        );
+    }
+
+    private void page(long nanos) {
+        pages.incrementAndGet();
+        pageNanos.addAndGet(nanos);
+        maxPageNanos.accumulateAndGet(nanos, Math::max);
+    }
+}
@@ -2,6 +2,7 @@ package io.kestra.plugin.minio;
 
 import java.io.File;
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.List;
 
 import org.apache.commons.io.FilenameUtils;
@@ -9,72 +10,122 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
 
 import io.kestra.core.models.executions.metrics.Counter;
-import io.kestra.core.models.property.Property;
 import io.kestra.core.runners.RunContext;
 import io.kestra.core.utils.FileUtils;
 import io.kestra.plugin.minio.model.MinioObject;
 
+import io.minio.CopyObjectArgs;
 import io.minio.DownloadObjectArgs;
 import io.minio.MinioAsyncClient;
+import io.minio.MinioClient;
+import io.minio.RemoveObjectsArgs;
+import io.minio.Result;
+import io.minio.SourceObject;
+import io.minio.messages.DeleteRequest;
+import io.minio.messages.DeleteResult;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 public class MinioService {
 
+    static final int ACTION_CONCURRENCY = 8;
+
+    /**
+     * Moves or deletes the objects once processed, with a single client: deletions are batched in multi-object delete
+     * requests, and moves are server-side copies run concurrently before the sources are deleted.
+     */
     public static void performAction(
         RunContext runContext,
         List<MinioObject> list,
         Downloads.Action action,
         String bucket,
-        MinioConnectionInterface minioConnection,
+        AbstractMinio minioConnection,
         Copy.CopyObject moveTo) throws Exception {
-        if (action == Downloads.Action.DELETE) {
-            for (MinioObject object : list) {
-                Delete delete = Delete.builder()
-                    .id("archive")
-                    .type(Delete.class.getName())
-                    .region(minioConnection.getRegion())
-                    .accessKeyId(minioConnection.getAccessKeyId())
-                    .secretKeyId(minioConnection.getSecretKeyId())
-                    .key(Property.ofValue(object.getKey()))
-                    .bucket(Property.ofValue(bucket))
-                    .endpoint(minioConnection.getEndpoint())
-                    .build();
-                delete.run(runContext);
-            }
-        } else if (action == Downloads.Action.MOVE) {
-            for (MinioObject object : list) {
-                Copy copy = Copy.builder()
-                    .id("archive")
-                    .type(Copy.class.getName())
-                    .region(minioConnection.getRegion())
-                    .endpoint(minioConnection.getEndpoint())
-                    .accessKeyId(minioConnection.getAccessKeyId())
-                    .secretKeyId(minioConnection.getSecretKeyId())
-                    .from(
-                        Copy.CopyObjectFrom
-                            .builder()
-                            .bucket(Property.ofValue(bucket))
-                            .key(Property.ofValue(object.getKey()))
-                            .build()
-                    )
-                    .to(
-                        moveTo.toBuilder()
-                            .key(
-                                Property.ofValue(
-                                    "%s/%s".formatted(
-                                        StringUtils.stripEnd(runContext.render(moveTo.getKey()).as(String.class).orElse(null) + "/", "/"),
-                                        FilenameUtils.getName(object.getKey())
-                                    )
-                                )
-                            )
-                            .build()
+        performAction(runContext, list, action, bucket, minioConnection, moveTo, DeleteList.MAX_BATCH_SIZE);
+    }
+
+    static void performAction(
+        RunContext runContext,
+        List<MinioObject> list,
+        Downloads.Action action,
+        String bucket,
+        AbstractMinio minioConnection,
+        Copy.CopyObject moveTo,
+        int batchSize) throws Exception {
+        if (action == Downloads.Action.NONE || list.isEmpty()) {
+            return;
+        }
+
+        try (MinioClient client = minioConnection.client(runContext)) {
+            if (action == Downloads.Action.MOVE) {
+                String toBucket = runContext.render(moveTo.getBucket()).as(String.class).orElse(bucket);
+                String toPrefix = StringUtils.stripEnd(runContext.render(moveTo.getKey()).as(String.class).orElse(null) + "/", "/");
+
+                Flux.fromIterable(list)
+                    .flatMap(
+                        object -> Mono.fromCallable(() -> client.copyObject(
+                            CopyObjectArgs.builder()
+                                .bucket(toBucket)
+                                .object("%s/%s".formatted(toPrefix, FilenameUtils.getName(object.getKey())))
+                                .source(SourceObject.builder().bucket(bucket).object(object.getKey()).build())
+                                .build()
+                        )).subscribeOn(Schedulers.boundedElastic()),
+                        ACTION_CONCURRENCY
                     )
-                    .delete(Property.ofValue(true))
-                    .build();
-                copy.run(runContext);
+                    .blockLast();
+
+                runContext.logger().debug("Copied {} objects to '{}/{}'", list.size(), toBucket, toPrefix);
+            }
+
+            // sources of a move are only deleted once every copy succeeded
+            for (int i = 0; i < list.size(); i += batchSize) {
+                List<DeleteRequest.Object> batch = list.subList(i, Math.min(list.size(), i + batchSize))
+                    .stream()
+                    .map(object -> new DeleteRequest.Object(object.getKey()))
+                    .toList();
+
+                List<DeleteResult.Error> errors = removeObjects(client, bucket, batch);
+                if (!errors.isEmpty()) {
+                    DeleteResult.Error error = errors.getFirst();
+                    throw new IllegalStateException(
+                        "Unable to delete " + errors.size() + " keys on " + bucket + ", '" + error.objectName() + "': " + error.code() + " " + error.message()
+                    );
+                }
             }
         }
     }
 
+    /**
+     * Deletes the objects with multi-object delete requests of at most 1,000 keys, and returns the keys the server failed
+     * to delete.
+     */
+    public static List<DeleteResult.Error> removeObjects(MinioClient client, String bucket, List<DeleteRequest.Object> objects) throws Exception {
+        return removeObjects(client, bucket, objects, false);
+    }
+
+    public static List<DeleteResult.Error> removeObjects(
+        MinioClient client,
+        String bucket,
+        List<DeleteRequest.Object> objects,
+        boolean bypassGovernanceMode
+    ) throws Exception {
+        List<DeleteResult.Error> errors = new ArrayList<>();
+
+        RemoveObjectsArgs request = RemoveObjectsArgs.builder()
+            .bucket(bucket)
+            .objects(objects)
+            .bypassGovernanceMode(bypassGovernanceMode)
+            .build();
+
+        // the SDK iterable is lazy, requests are only sent while it is consumed
+        for (Result<DeleteResult.Error> result : client.removeObjects(request)) {
+            errors.add(result.get());
+        }
+
+        return errors;
+    }
+
     public static Pair<URI, Long> download(RunContext runContext, MinioAsyncClient client, String bucket, String key, String versionId) throws Exception {
         File tempFile = runContext.workingDir().createTempFile(FileUtils.getExtension(key)).toFile();
         boolean deleted = tempFile.delete();
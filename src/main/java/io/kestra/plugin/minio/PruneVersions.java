@@ -0,0 +1,345 @@
+package io.kestra.plugin.minio;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Metric;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.annotations.PluginProperty;
+import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.RunnableTask;
+import io.kestra.core.runners.RunContext;
+
+import io.minio.ListObjectVersionsArgs;
+import io.minio.MinioAsyncClient;
+import io.minio.MinioClient;
+import io.minio.messages.DeleteRequest;
+import io.minio.messages.DeleteResult;
+import io.minio.messages.Item;
+import io.minio.messages.ListVersionsResult;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Min;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+@SuperBuilder
+@ToString
+@EqualsAndHashCode
+@Getter
+@NoArgsConstructor
+@Plugin(
+    examples = {
+        @Example(
+            title = "Keep the 3 newest versions of each object, and the versions that became noncurrent less than 30 days ago.",
+            full = true,
+            code = """
+                id: minio_prune_versions
+                namespace: company.team
+
+                tasks:
+                  - id: prune_versions
+                    type: io.kestra.plugin.minio.PruneVersions
+                    accessKeyId: "<access-key>"
+                    secretKeyId: "{{ secret('MINIO_SECRET_KEY_ID') }}"
+                    region: "eu-central-1"
+                    bucket: "my-bucket"
+                    keep: 3
+                    noncurrentFor: P30D
+
+                triggers:
+                  - id: daily
+                    type: io.kestra.plugin.core.trigger.Schedule
+                    cron: "@daily"
+                """
+        )
+    },
+    metrics = {
+        @Metric(
+            name = "count",
+            type = Counter.TYPE,
+            unit = "count",
+            description = "The number of versions deleted."
+        ),
+        @Metric(
+            name = "delete.markers",
+            type = Counter.TYPE,
+            unit = "count",
+            description = "The number of delete markers deleted."
+        ),
+        @Metric(
+            name = "errors",
+            type = Counter.TYPE,
+            unit = "count",
+            description = "The number of versions the server failed to delete."
+        )
+    }
+)
+@Schema(
+    title = "Delete the noncurrent versions of the objects of a versioned MinIO bucket",
+    description = "Streams the versions of the objects under `prefix` and deletes, with batched multi-object delete requests, " +
+        "the versions beyond the `keep` newest ones of each key that are noncurrent for longer than `noncurrentFor`. " +
+        "The current version of a key is never deleted, except a delete marker left without any older version."
+)
+public class PruneVersions extends AbstractMinioObject implements RunnableTask<PruneVersions.Output> {
+
+    @Schema(
+        title = "Only prune the versions of keys starting with this prefix"
+    )
+    @PluginProperty(group = "source")
+    private Property<String> prefix;
+
+    @Schema(
+        title = "The number of newest versions to keep for each key, the current one included"
+    )
+    @Builder.Default
+    @Min(1)
+    @PluginProperty(group = "main")
+    private Property<Integer> keep = Property.ofValue(1);
+
+    @Schema(
+        title = "Keep the versions that became noncurrent less than this duration ago",
+        description = "A version becomes noncurrent when a newer version or a delete marker is written. " +
+            "When set, a version is only deleted if it is beyond `keep` and noncurrent for longer than this duration."
+    )
+    @PluginProperty(group = "main")
+    private Property<Duration> noncurrentFor;
+
+    @Schema(
+        title = "Whether to delete the delete markers left without any older version",
+        description = "Such a delete marker hides nothing anymore, but is still returned by every version listing. " +
+            "A delete marker whose older versions are pruned is removed by the next run."
+    )
+    @Builder.Default
+    @PluginProperty(group = "main")
+    private Property<Boolean> removeExpiredDeleteMarkers = Property.ofValue(true);
+
+    @Schema(
+        title = "Whether to bypass the governance mode retention of the versions deleted"
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Boolean> bypassGovernanceMode = Property.ofValue(false);
+
+    @Schema(
+        title = "Only report the versions that would be deleted, without deleting them"
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Boolean> dryRun = Property.ofValue(false);
+
+    @Min(2)
+    @Schema(
+        title = "Number of batches deleted concurrently"
+    )
+    @PluginProperty(group = "execution")
+    private Integer concurrent;
+
+    @Override
+    public Output run(RunContext runContext) throws Exception {
+        Logger logger = runContext.logger();
+        String bucket = runContext.render(this.bucket).as(String.class).orElseThrow();
+        String rPrefix = runContext.render(this.prefix).as(String.class).orElse(null);
+        int rKeep = runContext.render(this.keep).as(Integer.class).orElse(1);
+        Instant cutoff = runContext.render(this.noncurrentFor).as(Duration.class)
+            .map(duration -> Instant.now().minus(duration))
+            .orElse(null);
+        boolean rRemoveExpiredDeleteMarkers = runContext.render(this.removeExpiredDeleteMarkers).as(Boolean.class).orElse(true);
+        boolean rBypassGovernanceMode = runContext.render(this.bypassGovernanceMode).as(Boolean.class).orElse(false);
+        boolean rDryRun = runContext.render(this.dryRun).as(Boolean.class).orElse(false);
+
+        if (rKeep < 1) {
+            throw new IllegalArgumentException("'keep' must be at least 1, the current version is never pruned");
+        }
+
+        try (MinioClient client = this.client(runContext); MinioAsyncClient asyncClient = this.asyncClient(runContext)) {
+            ListingMetrics metrics = new ListingMetrics();
+
+            // pages are listed one at a time, so only one page and the versions of one key are held in memory
+            Flux<java.util.List<Version>> batches = page(asyncClient, metrics, bucket, rPrefix, null)
+                .expand(page -> page.truncated() ? page(asyncClient, metrics, bucket, rPrefix, page) : Mono.empty())
+                .concatMapIterable(Page::keys)
+                .flatMapIterable(versions -> expired(versions, rKeep, cutoff, rRemoveExpiredDeleteMarkers))
+                .buffer(DeleteList.MAX_BATCH_SIZE);
+
+            Flux<Pruned> result;
+            if (rDryRun) {
+                result = batches.map(batch -> {
+                    batch.forEach(version -> logger.info("Would delete version '{}' of '{}'", version.versionId(), version.key()));
+                    return Pruned.of(batch, java.util.List.of());
+                });
+            } else if (this.concurrent != null) {
+                result = batches.flatMap(
+                    batch -> Mono.fromCallable(() -> delete(logger, client, bucket, batch, rBypassGovernanceMode)).subscribeOn(Schedulers.boundedElastic()),
+                    this.concurrent,
+                    1
+                );
+            } else {
+                result = batches.concatMap(batch -> Mono.fromCallable(() -> delete(logger, client, bucket, batch, rBypassGovernanceMode)), 1);
+            }
+
+            Pruned total = result.reduce(Pruned.EMPTY, Pruned::plus).block();
+
+            runContext.metric(Counter.of("count", total.count()));
+            runContext.metric(Counter.of("delete.markers", total.deleteMarkers()));
+            runContext.metric(Counter.of("errors", total.errors()));
+            metrics.report(runContext);
+
+            if (total.errors() > 0) {
+                throw new IllegalStateException(
+                    "Unable to delete " + total.errors() + " versions on " + bucket + ", " + total.count() + " versions were deleted"
+                );
+            }
+
+            logger.info("{} {} versions, {} of them delete markers", rDryRun ? "Would delete" : "Deleted", total.count(), total.deleteMarkers());
+
+            return Output.builder()
+                .count(total.count())
+                .deleteMarkers(total.deleteMarkers())
+                .build();
+        }
+    }
+
+    private static Mono<Page> page(MinioAsyncClient client, ListingMetrics metrics, String bucket, String prefix, Page previous) {
+        return Mono.fromCallable(() -> {
+            ListObjectVersionsArgs.Builder request = ListObjectVersionsArgs.builder().bucket(bucket);
+            if (prefix != null) {
+                request.prefix(prefix);
+            }
+            if (previous != null) {
+                request.keyMarker(previous.nextKeyMarker()).versionIdMarker(previous.nextVersionIdMarker());
+            }
+
+            long start = System.nanoTime();
+            ListVersionsResult result = client.listObjectVersions(request.build()).get().result();
+            java.util.List<Version> versions = Stream.concat(result.contents().stream(), result.deleteMarkers().stream())
+                .map(Version::of)
+                .toList();
+            metrics.page(System.nanoTime() - start, versions.size());
+
+            return Page.of(
+                previous == null ? java.util.List.of() : previous.pending(),
+                versions,
+                result.isTruncated(),
+                result.nextKeyMarker(),
+                result.nextVersionIdMarker()
+            );
+        });
+    }
+
+    /**
+     * Selects the versions of a key to delete, whatever the order they were listed in.
+     */
+    static java.util.List<Version> expired(java.util.List<Version> versions, int keep, Instant cutoff, boolean removeExpiredDeleteMarkers) {
+        java.util.List<Version> sorted = versions.stream().sorted(Version.NEWEST_FIRST).toList();
+
+        // only the oldest versions expire: a version newer than a kept one is kept too, so a delete marker is
+        // never removed while a version it hides is kept
+        int from = sorted.size();
+        while (from > Math.max(1, keep)) {
+            // a version is noncurrent since the next one was written
+            Instant noncurrentSince = sorted.get(from - 2).lastModified();
+
+            if (cutoff != null && noncurrentSince != null && !noncurrentSince.isBefore(cutoff)) {
+                break;
+            }
+            from--;
+        }
+        java.util.List<Version> expired = new ArrayList<>(sorted.subList(from, sorted.size()));
+
+        // a delete marker is only removed once it is alone: removing it along with older versions would restore the
+        // object if one of their deletions failed, it is removed by the next run instead
+        Version current = sorted.getFirst();
+        if (removeExpiredDeleteMarkers && sorted.size() == 1 && current.latest() && current.deleteMarker()) {
+            expired.add(current);
+        }
+
+        return expired;
+    }
+
+    private static Pruned delete(Logger logger, MinioClient client, String bucket, java.util.List<Version> batch, boolean bypassGovernanceMode) throws Exception {
+        java.util.List<DeleteResult.Error> errors = MinioService.removeObjects(
+            client,
+            bucket,
+            batch.stream().map(version -> new DeleteRequest.Object(version.key(), version.versionId())).toList(),
+            bypassGovernanceMode
+        );
+
+        for (DeleteResult.Error error : errors) {
+            logger.warn("Unable to delete a version of '{}': {} {}", error.objectName(), error.code(), error.message());
+        }
+
+        return Pruned.of(batch, errors);
+    }
+
+    record Version(String key, String versionId, Instant lastModified, boolean latest, boolean deleteMarker) {
+        static final Comparator<Version> NEWEST_FIRST = Comparator.comparing(Version::latest).reversed()
+            .thenComparing(Version::lastModified, Comparator.nullsLast(Comparator.reverseOrder()));
+
+        static Version of(Item item) {
+            return new Version(
+                item.objectName(),
+                item.versionId(),
+                item.lastModified() == null ? null : item.lastModified().toInstant(),
+                item.isLatest(),
+                item.isDeleteMarker()
+            );
+        }
+    }
+
+    /**
+     * The versions of a page grouped by key. A page lists its versions, then its delete markers, and the versions of
+     * its last key may continue on the next page: they are held as {@code pending} until the next page is grouped.
+     */
+    record Page(java.util.List<java.util.List<Version>> keys, java.util.List<Version> pending, boolean truncated, String nextKeyMarker, String nextVersionIdMarker) {
+        static Page of(java.util.List<Version> pending, java.util.List<Version> versions, boolean truncated, String nextKeyMarker, String nextVersionIdMarker) {
+            TreeMap<String, java.util.List<Version>> keys = new TreeMap<>();
+            Stream.concat(pending.stream(), versions.stream())
+                .forEach(version -> keys.computeIfAbsent(version.key(), key -> new ArrayList<>()).add(version));
+
+            java.util.List<Version> next = truncated && !keys.isEmpty() ? keys.pollLastEntry().getValue() : java.util.List.of();
+
+            return new Page(java.util.List.copyOf(keys.values()), next, truncated, nextKeyMarker, nextVersionIdMarker);
+        }
+    }
+
+    record Pruned(long count, long deleteMarkers, long errors) {
+        static final Pruned EMPTY = new Pruned(0, 0, 0);
+
+        static Pruned of(java.util.List<Version> batch, java.util.List<DeleteResult.Error> errors) {
+            long markers = batch.stream().filter(Version::deleteMarker).count();
+
+            // errors are not matched to their version, the delete markers count may include failed ones
+            return new Pruned(batch.size() - errors.size(), markers, errors.size());
+        }
+
+        Pruned plus(Pruned other) {
+            return new Pruned(count + other.count, deleteMarkers + other.deleteMarkers, errors + other.errors);
+        }
+    }
+
+    @Builder
+    @Getter
+    public static class Output implements io.kestra.core.models.tasks.Output {
+        @Schema(
+            title = "The number of versions deleted, delete markers included"
+        )
+        private final long count;
+
+        @Schema(
+            title = "The number of delete markers deleted"
+        )
+        private final long deleteMarkers;
+    }
+
+}
@@ -0,0 +1,268 @@
+package io.kestra.plugin.minio;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+
+import org.apache.commons.codec.digest.DigestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.serializers.JacksonMapper;
+import io.kestra.core.storages.kv.KVMetadata;
+import io.kestra.core.storages.kv.KVStore;
+import io.kestra.core.storages.kv.KVValue;
+import io.kestra.core.storages.kv.KVValueAndMetadata;
+
+import io.minio.AbortMultipartUploadArgs;
+import io.minio.CompleteMultipartUploadArgs;
+import io.minio.CreateMultipartUploadArgs;
+import io.minio.Http;
+import io.minio.ListMultipartUploadsArgs;
+import io.minio.MinioAsyncClient;
+import io.minio.ObjectWriteResponse;
+import io.minio.UploadPartArgs;
+import io.minio.errors.ErrorResponseException;
+import io.minio.messages.ListMultipartUploadsResult;
+import io.minio.messages.Part;
+
+/**
+ * Uploads a file with the S3 multipart API, checkpointing the upload id and the ETag of each completed part in the
+ * namespace KV store.
+ * <p>
+ * When the task is retried, the source is unchanged and the multipart upload is still open on the server, the upload
+ * continues from the first part missing in the checkpoint.
+ */
+public class ResumableUpload {
+    private static final ObjectMapper MAPPER = JacksonMapper.ofJson();
+
+    public static ObjectWriteResponse upload(
+        RunContext runContext,
+        MinioAsyncClient client,
+        String taskId,
+        String bucket,
+        String key,
+        String source,
+        File file,
+        long partSize,
+        Duration ttl,
+        Map<String, String> headers
+    ) throws Exception {
+        KVStore kvStore = runContext.namespaceKv(runContext.flowInfo().namespace());
+        String kvKey = kvKey(runContext, taskId, bucket, key);
+
+        Checkpoint checkpoint = read(kvStore, kvKey);
+        String checksum = checksum(file);
+
+        if (checkpoint != null && !(checkpoint.matches(source, file.length(), checksum, partSize, ttl) && exists(client, bucket, key, checkpoint.uploadId()))) {
+            runContext.logger().info("Discarding upload '{}' of '{}', the source changed or the upload expired", checkpoint.uploadId(), key);
+            abort(client, bucket, key, checkpoint.uploadId());
+            checkpoint = null;
+        }
+
+        if (checkpoint == null) {
+            String uploadId = client.createMultipartUpload(
+                CreateMultipartUploadArgs.builder()
+                    .bucket(bucket)
+                    .object(key)
+                    .headers(new Http.Headers(headers))
+                    .build()
+            ).get().result().uploadId();
+
+            checkpoint = new Checkpoint(uploadId, source, file.length(), checksum, partSize, Instant.now(), new TreeMap<>());
+            write(kvStore, kvKey, checkpoint, ttl, bucket, key);
+        } else {
+            runContext.logger().info("Resuming upload '{}' of '{}', {} parts already on the server", checkpoint.uploadId(), key, checkpoint.parts().size());
+        }
+
+        int partCount = (int) Math.max(1, (file.length() + partSize - 1) / partSize);
+        Part[] parts = new Part[partCount];
+
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+            for (int partNumber = 1; partNumber <= partCount; partNumber++) {
+                long offset = (partNumber - 1) * partSize;
+                long length = Math.min(partSize, file.length() - offset);
+
+                // a part is only checkpointed once the server acknowledged it, it stays stored until the upload is completed or aborted
+                String etag = checkpoint.parts().get(partNumber);
+                if (etag != null) {
+                    parts[partNumber - 1] = new Part(partNumber, etag);
+                    continue;
+                }
+
+                raf.seek(offset);
+                Part part = client.uploadPart(
+                    UploadPartArgs.builder()
+                        .bucket(bucket)
+                        .object(key)
+                        .uploadId(checkpoint.uploadId())
+                        .partNumber(partNumber)
+                        .file(raf, length)
+                        .build()
+                ).get().part();
+
+                parts[partNumber - 1] = part;
+                checkpoint.parts().put(partNumber, stripQuotes(part.etag()));
+                write(kvStore, kvKey, checkpoint, ttl, bucket, key);
+
+                runContext.logger().debug("Uploaded part {}/{} of '{}'", partNumber, partCount, key);
+            }
+        }
+
+        ObjectWriteResponse response = client.completeMultipartUpload(
+            CompleteMultipartUploadArgs.builder()
+                .bucket(bucket)
+                .object(key)
+                .uploadId(checkpoint.uploadId())
+                .parts(parts)
+                .build()
+        ).get();
+
+        kvStore.delete(kvKey);
+
+        return response;
+    }
+
+    /**
+     * Aborts the multipart uploads under {@code prefix} that were initiated before {@code olderThan}, these are
+     * leftovers of uploads that were never resumed.
+     */
+    public static long abortStale(RunContext runContext, MinioAsyncClient client, String bucket, String prefix, Duration olderThan) throws Exception {
+        Instant limit = Instant.now().minus(olderThan);
+        long count = 0;
+
+        String keyMarker = null;
+        String uploadIdMarker = null;
+        ListMultipartUploadsResult result;
+
+        do {
+            ListMultipartUploadsArgs.Builder builder = ListMultipartUploadsArgs.builder().bucket(bucket);
+            if (prefix != null) {
+                builder.prefix(prefix);
+            }
+            if (keyMarker != null) {
+                builder.keyMarker(keyMarker).uploadIdMarker(uploadIdMarker);
+            }
+
+            result = client.listMultipartUploads(builder.build()).get().result();
+
+            for (ListMultipartUploadsResult.Upload upload : result.uploads()) {
+                if (upload.initiated() != null && upload.initiated().toInstant().isBefore(limit)) {
+                    runContext.logger().debug("Aborting upload '{}' of '{}' initiated at {}", upload.uploadId(), upload.objectName(), upload.initiated());
+                    abort(client, bucket, upload.objectName(), upload.uploadId());
+                    count++;
+                }
+            }
+
+            keyMarker = result.nextKeyMarker();
+            uploadIdMarker = result.nextUploadIdMarker();
+        } while (result.isTruncated());
+
+        return count;
+    }
+
+    /**
+     * Whether the multipart upload is still open on the server, it disappears once completed, aborted or expired by a
+     * lifecycle rule.
+     */
+    private static boolean exists(MinioAsyncClient client, String bucket, String key, String uploadId) throws Exception {
+        String keyMarker = null;
+        String uploadIdMarker = null;
+        ListMultipartUploadsResult result;
+
+        do {
+            ListMultipartUploadsArgs.Builder builder = ListMultipartUploadsArgs.builder()
+                .bucket(bucket)
+                .prefix(key);
+            if (keyMarker != null) {
+                builder.keyMarker(keyMarker).uploadIdMarker(uploadIdMarker);
+            }
+
+            result = client.listMultipartUploads(builder.build()).get().result();
+
+            for (ListMultipartUploadsResult.Upload upload : result.uploads()) {
+                if (upload.objectName().equals(key) && upload.uploadId().equals(uploadId)) {
+                    return true;
+                }
+            }
+
+            keyMarker = result.nextKeyMarker();
+            uploadIdMarker = result.nextUploadIdMarker();
+        } while (result.isTruncated());
+
+        return false;
+    }
+
+    private static void abort(MinioAsyncClient client, String bucket, String key, String uploadId) throws Exception {
+        try {
+            client.abortMultipartUpload(
+                AbortMultipartUploadArgs.builder()
+                    .bucket(bucket)
+                    .object(key)
+                    .uploadId(uploadId)
+                    .build()
+            ).get();
+        } catch (ExecutionException e) {
+            if (!(e.getCause() instanceof ErrorResponseException error && "NoSuchUpload".equals(error.errorResponse().code()))) {
+                throw e;
+            }
+        }
+    }
+
+    static String kvKey(RunContext runContext, String taskId, String bucket, String key) {
+        String identity = String.join("/", runContext.flowInfo().id(), taskId, bucket, key);
+
+        return "minio_upload_" + DigestUtils.sha256Hex(identity.getBytes(StandardCharsets.UTF_8)).substring(0, 32);
+    }
+
+    /**
+     * The SHA-256 of the source file, a source rewritten with the same size can't reuse the parts already sent.
+     */
+    static String checksum(File file) throws IOException {
+        try (InputStream input = new FileInputStream(file)) {
+            return DigestUtils.sha256Hex(input);
+        }
+    }
+
+    private static String stripQuotes(String etag) {
+        return etag == null ? null : etag.replace("\"", "");
+    }
+
+    private static Checkpoint read(KVStore kvStore, String kvKey) throws Exception {
+        Object value = kvStore.getValue(kvKey).map(KVValue::value).orElse(null);
+        if (value == null) {
+            return null;
+        }
+
+        return value instanceof String json ? MAPPER.readValue(json, Checkpoint.class) : MAPPER.convertValue(value, Checkpoint.class);
+    }
+
+    static void write(KVStore kvStore, String kvKey, Checkpoint checkpoint, Duration ttl, String bucket, String key) throws Exception {
+        kvStore.put(
+            kvKey,
+            new KVValueAndMetadata(
+                new KVMetadata("Resumable MinIO upload of s3://%s/%s".formatted(bucket, key), ttl),
+                MAPPER.writeValueAsString(checkpoint)
+            )
+        );
+    }
+
+    public record Checkpoint(String uploadId, String source, long size, String checksum, long partSize, Instant createdAt, Map<Integer, String> parts) {
+        boolean matches(String source, long size, String checksum, long partSize, Duration ttl) {
+            return this.source.equals(source) &&
+                this.size == size &&
+                checksum.equals(this.checksum) &&
+                this.partSize == partSize &&
+                this.createdAt.plus(ttl).isAfter(Instant.now());
+        }
+    }
+}
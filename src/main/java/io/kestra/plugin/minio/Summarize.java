@@ -0,0 +1,317 @@
+package io.kestra.plugin.minio;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Metric;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.annotations.PluginProperty;
+import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.RunnableTask;
+import io.kestra.core.runners.RunContext;
+import io.kestra.plugin.minio.model.MinioObject;
+
+import io.minio.MinioClient;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Min;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+
+@SuperBuilder
+@ToString
+@EqualsAndHashCode
+@Getter
+@NoArgsConstructor
+@Plugin(
+    examples = {
+        @Example(
+            full = true,
+            code = """
+                id: minio_summarize
+                namespace: company.team
+
+                tasks:
+                  - id: usage
+                    type: io.kestra.plugin.minio.Summarize
+                    accessKeyId: "<access-key>"
+                    secretKeyId: "{{ secret('MINIO_SECRET_KEY_ID') }}"
+                    region: "eu-central-1"
+                    bucket: "my-bucket"
+                    prefix: "logs/"
+                    depth: 2
+                """
+        )
+    },
+    metrics = {
+        @Metric(
+            name = "count",
+            type = Counter.TYPE,
+            unit = "count",
+            description = "Number of objects summarized."
+        ),
+        @Metric(
+            name = "size",
+            type = Counter.TYPE,
+            unit = "bytes",
+            description = "Total size of the objects summarized."
+        ),
+        @Metric(
+            name = "prefixes",
+            type = Counter.TYPE,
+            unit = "count",
+            description = "Number of prefixes in the summary."
+        )
+    }
+)
+@Schema(
+    title = "Summarize the usage of a MinIO bucket per prefix",
+    description = "Streams the listing of a bucket and aggregates the objects per prefix, down to `depth` levels under `prefix`: " +
+        "object count, total size, size histogram and oldest and newest modification dates. " +
+        "Only one aggregate per prefix is held in memory, whatever the number of objects."
+)
+public class Summarize extends AbstractMinioObject implements RunnableTask<Summarize.Output> {
+
+    @Schema(
+        title = "Limits the summary to keys that begin with the specified prefix"
+    )
+    @PluginProperty(group = "source")
+    private Property<String> prefix;
+
+    @Schema(
+        title = "A regexp to filter on full key"
+    )
+    @PluginProperty(group = "processing")
+    private Property<String> regexp;
+
+    @Schema(
+        title = "A glob to filter on full key"
+    )
+    @PluginProperty(group = "processing")
+    private Property<String> glob;
+
+    @Schema(
+        title = "The number of levels under `prefix` to aggregate on",
+        description = "`0` summarizes everything under `prefix` as a single entry, `1` aggregates per first level directory, and so on. " +
+            "Objects located above `depth` are aggregated in their own directory."
+    )
+    @Builder.Default
+    @Min(0)
+    @PluginProperty(group = "processing")
+    private Property<Integer> depth = Property.ofValue(1);
+
+    @Schema(
+        title = "The delimiter separating the levels of the keys"
+    )
+    @Builder.Default
+    @PluginProperty(group = "processing")
+    private Property<String> delimiter = Property.ofValue("/");
+
+    @Schema(
+        title = "The upper bounds, in bytes, of the buckets of the size histogram",
+        description = "The last bucket holds the objects larger than the last bound."
+    )
+    @Builder.Default
+    @PluginProperty(group = "processing")
+    private Property<java.util.List<Long>> histogram = Property.ofValue(java.util.List.of(
+        1024L,
+        1024L * 1024,
+        16L * 1024 * 1024,
+        128L * 1024 * 1024,
+        1024L * 1024 * 1024
+    ));
+
+    @Schema(
+        title = "Whether to also count the non-current versions of the objects",
+        description = "Non-current versions still use storage on versioned buckets."
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Boolean> includeVersions = Property.ofValue(false);
+
+    @Schema(
+        title = "List the keyspace as partitions in parallel",
+        description = "The keyspace under `prefix` is split into partitions listed concurrently, see the `List` task."
+    )
+    @PluginProperty(group = "execution")
+    private List.ParallelListing parallel;
+
+    @Schema(
+        title = "Read the keys from an S3 inventory report instead of listing the bucket",
+        description = "See the `List` task."
+    )
+    @PluginProperty(group = "source")
+    private List.InventorySource inventory;
+
+    @Override
+    public Output run(RunContext runContext) throws Exception {
+        String rPrefix = runContext.render(this.prefix).as(String.class).orElse("");
+        int rDepth = runContext.render(this.depth).as(Integer.class).orElseThrow();
+        String rDelimiter = runContext.render(this.delimiter).as(String.class).orElseThrow();
+        long[] rBounds = runContext.render(this.histogram).asList(Long.class).stream()
+            .mapToLong(Long::longValue)
+            .sorted()
+            .toArray();
+
+        List task = List.builder()
+            .id(this.id)
+            .type(List.class.getName())
+            .region(this.region)
+            .endpoint(this.endpoint)
+            .accessKeyId(this.accessKeyId)
+            .secretKeyId(this.secretKeyId)
+            .bucket(this.bucket)
+            .prefix(this.prefix)
+            .regexp(this.regexp)
+            .glob(this.glob)
+            .filter(Property.ofValue(List.Filter.FILES))
+            .includeVersions(this.includeVersions)
+            .fields(Property.ofValue(java.util.List.of(MinioObject.Field.SIZE, MinioObject.Field.LAST_MODIFIED)))
+            .parallel(this.parallel)
+            .inventory(this.inventory)
+            .build();
+
+        try (MinioClient client = this.client(runContext)) {
+            ListingMetrics metrics = new ListingMetrics();
+            Usage total = new Usage(rPrefix, rBounds);
+
+            Map<String, Usage> prefixes = Objects.requireNonNull(task.stream(runContext, client, metrics)
+                .reduce(
+                    new TreeMap<String, Usage>(),
+                    (usages, object) -> {
+                        usages.computeIfAbsent(group(rPrefix, object.getKey(), rDelimiter, rDepth), key -> new Usage(key, rBounds)).add(object);
+                        total.add(object);
+                        return usages;
+                    }
+                )
+                .block());
+
+            runContext.metric(Counter.of("count", total.getCount()));
+            runContext.metric(Counter.of("size", "bytes", total.getSize()));
+            runContext.metric(Counter.of("prefixes", prefixes.size()));
+            metrics.report(runContext);
+
+            runContext.logger().info("Summarized {} objects for {} bytes in {} prefixes", total.getCount(), total.getSize(), prefixes.size());
+
+            return Output.builder()
+                .prefixes(java.util.List.copyOf(prefixes.values()))
+                .total(total)
+                .build();
+        }
+    }
+
+    /**
+     * Returns the prefix the key is aggregated in: {@code prefix} followed by at most {@code depth} levels of the key.
+     */
+    static String group(String prefix, String key, String delimiter, int depth) {
+        int end = prefix.length();
+
+        for (int level = 0; level < depth; level++) {
+            int next = key.indexOf(delimiter, end);
+            if (next < 0) {
+                break;
+            }
+            end = next + delimiter.length();
+        }
+
+        return key.substring(0, end);
+    }
+
+    @Getter
+    public static class Usage {
+        @Schema(
+            title = "The prefix of the aggregated keys"
+        )
+        private final String prefix;
+
+        @Schema(
+            title = "The number of objects"
+        )
+        private long count;
+
+        @Schema(
+            title = "The total size of the objects, in bytes"
+        )
+        private long size;
+
+        @Schema(
+            title = "The modification date of the oldest object"
+        )
+        private Instant oldest;
+
+        @Schema(
+            title = "The modification date of the newest object"
+        )
+        private Instant newest;
+
+        @Getter(AccessLevel.NONE)
+        private final long[] bounds;
+
+        @Getter(AccessLevel.NONE)
+        private final long[] buckets;
+
+        Usage(String prefix, long[] bounds) {
+            this.prefix = prefix;
+            this.bounds = bounds;
+            this.buckets = new long[bounds.length + 1];
+        }
+
+        void add(MinioObject object) {
+            long objectSize = object.getSize() == null ? 0 : object.getSize();
+
+            count++;
+            size += objectSize;
+
+            int bucket = 0;
+            while (bucket < bounds.length && objectSize >= bounds[bucket]) {
+                bucket++;
+            }
+            buckets[bucket]++;
+
+            Instant lastModified = object.getLastModified();
+            if (lastModified != null) {
+                if (oldest == null || lastModified.isBefore(oldest)) {
+                    oldest = lastModified;
+                }
+                if (newest == null || lastModified.isAfter(newest)) {
+                    newest = lastModified;
+                }
+            }
+        }
+
+        @Schema(
+            title = "The number of objects per size range",
+            description = "Keyed by range, e.g. `[1024, 1048576)` for the objects of at least 1 KiB and less than 1 MiB."
+        )
+        public Map<String, Long> getHistogram() {
+            Map<String, Long> histogram = new LinkedHashMap<>();
+
+            for (int i = 0; i < buckets.length; i++) {
+                String lower = i == 0 ? "0" : String.valueOf(bounds[i - 1]);
+                String upper = i == bounds.length ? "+inf" : String.valueOf(bounds[i]);
+                histogram.put("[" + lower + ", " + upper + ")", buckets[i]);
+            }
+
+            return histogram;
+        }
+    }
+
+    @Builder
+    @Getter
+    public static class Output implements io.kestra.core.models.tasks.Output {
+        @Schema(
+            title = "The usage per prefix, ordered by prefix"
+        )
+        private final java.util.List<Usage> prefixes;
+
+        @Schema(
+            title = "The usage of all the objects summarized"
+        )
+        private final Usage total;
+    }
+
+}
@@ -139,7 +139,7 @@ import io.kestra.core.models.annotations.PluginProperty;
         )
     }
 )
-public class Trigger extends AbstractTrigger implements PollingTriggerInterface, TriggerOutput<Trigger.Output>, MinioConnectionInterface, StatefulTriggerInterface {
+public class Trigger extends AbstractTrigger implements PollingTriggerInterface, TriggerOutput<Trigger.Output>, AbstractMinio, StatefulTriggerInterface {
 
     @Builder.Default
     private final Duration interval = Duration.ofSeconds(60);
@@ -173,10 +173,19 @@ public class Trigger extends AbstractTrigger implements PollingTriggerInterface,
     @Schema(title = "Regular expression to filter object keys")
     protected Property<String> regexp;
 
+    @Schema(title = "Glob to filter object keys, `*` matching within a path segment and `**` across segments")
+    protected Property<String> glob;
+
     @Schema(title = "Filter to apply on listed objects (files, directories, or both)")
     @Builder.Default
     protected final Property<List.Filter> filter = Property.ofValue(List.Filter.BOTH);
 
+    @Schema(title = "List the keyspace under the prefix as partitions in parallel, see the `List` task")
+    private List.ParallelListing parallel;
+
+    @Schema(title = "Maximum number of matching objects to consider per evaluation, the listing stops once reached")
+    private Property<Integer> limit;
+
     @Schema(title = "Action to apply to listed objects after detection")
     private Property<Downloads.Action> action;
 
@@ -227,7 +236,10 @@ public class Trigger extends AbstractTrigger implements PollingTriggerInterface,
             .marker(this.marker)
             .maxKeys(this.maxKeys)
             .regexp(this.regexp)
+            .glob(this.glob)
             .filter(this.filter)
+            .parallel(this.parallel)
+            .limit(this.limit)
             .caPem(this.caPem)
             .clientPem(this.clientPem)
             .ssl(this.ssl)
@@ -1,18 +1,32 @@
 package io.kestra.plugin.minio;
 
+import java.io.BufferedReader;
 import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.net.URI;
-import java.nio.file.Files;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
-import java.nio.file.StandardCopyOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.time.Duration;
 import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.Map;
 import java.util.Objects;
-import java.util.function.Function;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.zip.GZIPOutputStream;
 
 import org.apache.commons.io.FilenameUtils;
 import org.jetbrains.annotations.NotNull;
 
+import com.github.luben.zstd.ZstdOutputStream;
+
 import io.kestra.core.models.annotations.Example;
 import io.kestra.core.models.annotations.Metric;
 import io.kestra.core.models.annotations.Plugin;
@@ -22,12 +36,20 @@ import io.kestra.core.models.property.Property;
 import io.kestra.core.models.property.URIFetcher;
 import io.kestra.core.models.tasks.RunnableTask;
 import io.kestra.core.runners.RunContext;
+import io.kestra.core.serializers.FileSerde;
+import io.kestra.core.serializers.JacksonMapper;
 import io.kestra.plugin.minio.model.ObjectOutput;
 
 import io.minio.MinioAsyncClient;
 import io.minio.ObjectWriteResponse;
+import io.minio.SnowballObject;
+import io.minio.StatObjectArgs;
+import io.minio.StatObjectResponse;
 import io.minio.UploadObjectArgs;
+import io.minio.UploadSnowballObjectsArgs;
+import io.minio.errors.ErrorResponseException;
 import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -36,6 +58,9 @@ import lombok.experimental.SuperBuilder;
 import reactor.core.publisher.Flux;
 import io.kestra.core.models.annotations.PluginProperty;
 
+import static io.kestra.core.utils.Rethrow.throwFunction;
+import static io.kestra.core.utils.Rethrow.throwSupplier;
+
 @SuperBuilder
 @ToString
 @EqualsAndHashCode
@@ -64,6 +89,52 @@ import io.kestra.core.models.annotations.PluginProperty;
                     key: "path/to/file"
                 """
         ),
+        @Example(
+            title = "Compress a CSV export with gzip while uploading it.",
+            full = true,
+            code = """
+                id: minio_upload_gzip
+                namespace: company.team
+
+                inputs:
+                  - id: file
+                    type: FILE
+
+                tasks:
+                  - id: upload_to_storage
+                    type: io.kestra.plugin.minio.Upload
+                    accessKeyId: "<access-key>"
+                    secretKeyId: "{{ secret('MINIO_SECRET_KEY_ID') }}"
+                    region: "eu-central-1"
+                    from: "{{ inputs.file }}"
+                    bucket: "my-bucket"
+                    key: "exports/orders.csv"
+                    contentType: text/csv
+                    compression: GZIP
+                """
+        ),
+        @Example(
+            title = "Upload many small files in a few requests with MinIO snowball, the server extracts the archive into individual objects.",
+            full = true,
+            code = """
+                id: minio_upload_snowball
+                namespace: company.team
+
+                tasks:
+                  - id: upload_to_storage
+                    type: io.kestra.plugin.minio.Upload
+                    accessKeyId: "<access-key>"
+                    secretKeyId: "{{ secret('MINIO_SECRET_KEY_ID') }}"
+                    region: "eu-central-1"
+                    from: "{{ outputs.previous_task.uris }}"
+                    bucket: "my-bucket"
+                    key: "path/to/dir"
+                    snowball:
+                      batchSize: 5000
+                      batchBytes: 536870912
+                      compression: true
+                """
+        ),
         @Example(
             title = "Upload file to S3-compatible storage (e.g., DigitalOcean Spaces).",
             full = true,
@@ -99,6 +170,24 @@ import io.kestra.core.models.annotations.PluginProperty;
             type = Counter.TYPE,
             unit = "bytes",
             description = "Size of the uploaded files in bytes."
+        ),
+        @Metric(
+            name = "file.skipped.count",
+            type = Counter.TYPE,
+            unit = "count",
+            description = "Number of files not uploaded because they are identical to the existing object, only reported when `skipIfUnchanged` is set."
+        ),
+        @Metric(
+            name = "file.skipped.size",
+            type = Counter.TYPE,
+            unit = "bytes",
+            description = "Size of the files not uploaded because they are identical to the existing object."
+        ),
+        @Metric(
+            name = "file.size.raw",
+            type = Counter.TYPE,
+            unit = "bytes",
+            description = "Size of the files before compression in bytes, only reported when `compression` is set."
         )
     }
 )
@@ -107,6 +196,37 @@ import io.kestra.core.models.annotations.PluginProperty;
     description = "Uploads a file to a MinIO bucket from Kestra's internal storage."
 )
 public class Upload extends AbstractMinioObject implements RunnableTask<Upload.Output>, Data.From {
+    private static final long MIN_PART_SIZE = 5L * 1024 * 1024;
+    private static final String MD5_METADATA = "kestra-md5";
+    private static final int PREFETCH = 32;
+
+    public enum Compression {
+        NONE(null, null),
+        GZIP("gzip", ".gz"),
+        ZSTD("zstd", ".zst");
+
+        private final String encoding;
+        private final String extension;
+
+        Compression(String encoding, String extension) {
+            this.encoding = encoding;
+            this.extension = extension;
+        }
+
+        OutputStream wrap(OutputStream outputStream, Integer level) throws IOException {
+            return switch (this) {
+                case NONE -> outputStream;
+                case GZIP -> new GZIPOutputStream(outputStream, 64 * 1024) {
+                    {
+                        if (level != null) {
+                            def.setLevel(level);
+                        }
+                    }
+                };
+                case ZSTD -> level != null ? new ZstdOutputStream(outputStream, level) : new ZstdOutputStream(outputStream);
+            };
+        }
+    }
 
     @Schema(
         title = "The key where to upload the file",
@@ -117,13 +237,24 @@ public class Upload extends AbstractMinioObject implements RunnableTask<Upload.O
 
     @Schema(
         title = "The file(s) to upload",
-        description = "Can be a single file, a list of files or json array.",
+        description = "Can be a single file, a list of files, a map of key names to files or a JSON array. " +
+            "With `fromList`, a file listing the files to upload.",
         anyOf = { List.class, String.class, Map.class }
     )
     @NotNull
     @PluginProperty(group = "source")
     private Object from;
 
+    @Schema(
+        title = "Whether `from` is a file listing the files to upload",
+        description = "When true, `from` must be the URI of an ion or JSONL file on internal storage, read one row at a time: " +
+            "each row is either the URI of a file or a map of key names to files. " +
+            "When false, such a file is uploaded as is."
+    )
+    @Builder.Default
+    @PluginProperty(group = "source")
+    private Property<Boolean> fromList = Property.ofValue(false);
+
     @Schema(
         title = "A standard MIME type describing the format of the contents"
     )
@@ -136,93 +267,193 @@ public class Upload extends AbstractMinioObject implements RunnableTask<Upload.O
     @PluginProperty(group = "advanced")
     private Property<Map<String, String>> metadata;
 
+    @Schema(
+        title = "Compress the file(s) while uploading",
+        description = "The content is encoded on the fly while it is copied from internal storage, " +
+            "the `Content-Encoding` header is set on the object, and the matching extension (`.gz` or `.zst`) is appended to the key " +
+            "unless `appendCompressionExtension` is false."
+    )
+    @Builder.Default
+    @PluginProperty(group = "processing")
+    private Property<Compression> compression = Property.ofValue(Compression.NONE);
+
+    @Schema(
+        title = "The compression level",
+        description = "From 0 to 9 for `GZIP` (defaults to 6), from 1 to 22 for `ZSTD` (defaults to 3)."
+    )
+    @PluginProperty(group = "processing")
+    private Property<Integer> compressionLevel;
+
+    @Schema(
+        title = "Whether to append the compression extension to the key"
+    )
+    @Builder.Default
+    @PluginProperty(group = "processing")
+    private Property<Boolean> appendCompressionExtension = Property.ofValue(true);
+
+    @Schema(
+        title = "Skip files that are identical to the object already stored at the target key",
+        description = "The target is checked with a HEAD request issued while the file is copied from internal storage, " +
+            "and the MD5 of the content is computed during that same copy. A file is skipped when the sizes match and the MD5 " +
+            "matches either the single-part ETag of the object or the checksum stored in its metadata by a previous upload."
+    )
+    @Builder.Default
+    @PluginProperty(group = "processing")
+    private Property<Boolean> skipIfUnchanged = Property.ofValue(false);
+
+    @Schema(
+        title = "Upload multiple files as batched snowball archives",
+        description = "Only applies when `from` contains multiple files and the server is MinIO. " +
+            "The files are sent in tar archives that the server extracts into individual objects, " +
+            "collapsing per-object request overhead into one request per batch. " +
+            "`contentType`, `metadata` and `resumable` don't apply to files uploaded this way, and `compression` is rejected."
+    )
+    @PluginProperty(group = "advanced")
+    private Snowball snowball;
+
+    @Schema(
+        title = "Whether to resume an interrupted upload on retry",
+        description = "Files larger than `partSize` are sent with a multipart upload whose id and completed part ETags are checkpointed " +
+            "in the namespace KV store (keyed by flow, task, bucket and key), along with the SHA-256 of the source. " +
+            "When the task is retried, the source is unchanged and the upload is still open on the server, it continues from the first missing part."
+    )
+    @Builder.Default
+    @PluginProperty(group = "reliability")
+    private Property<Boolean> resumable = Property.ofValue(false);
+
+    @Schema(
+        title = "The size of each part of a resumable upload, in bytes",
+        description = "Must be at least 5 MiB."
+    )
+    @Builder.Default
+    @PluginProperty(group = "reliability")
+    private Property<Long> partSize = Property.ofValue(64L * 1024 * 1024);
+
+    @Schema(
+        title = "How long a resumable upload checkpoint is kept",
+        description = "An older checkpoint is discarded, its multipart upload is aborted and the upload restarts from scratch. " +
+            "Use the `AbortUploads` task to clean up the uploads that were never retried."
+    )
+    @Builder.Default
+    @PluginProperty(group = "reliability")
+    private Property<Duration> resumableTtl = Property.ofValue(Duration.ofDays(7));
+
     @Override
     public Output run(RunContext runContext) throws Exception {
         String bucket = runContext.render(this.bucket).as(String.class).orElseThrow();
         String baseKey = runContext.render(this.key).as(String.class).orElseThrow();
 
-        Map<String, String> filesToUpload = parseFromProperty(runContext);
-        if (filesToUpload.isEmpty()) {
+        Flux<Map.Entry<String, String>> filesToUpload = parseFromProperty(runContext);
+
+        // only peek at the first two entries to pick the mode, the whole input is never held in memory
+        java.util.List<Map.Entry<String, String>> head = Objects.requireNonNull(filesToUpload.take(2).collectList().block());
+        if (head.isEmpty()) {
             throw new IllegalArgumentException("No files to upload: the 'from' property contains an empty collection or array");
         }
 
         try (MinioAsyncClient client = this.asyncClient(runContext)) {
 
-            if (filesToUpload.size() == 1) {
-                return uploadSingle(runContext, client, bucket, baseKey, filesToUpload.values().iterator().next());
+            if (head.size() == 1) {
+                return uploadSingle(runContext, client, bucket, baseKey, head.getFirst().getValue());
             } else {
                 return uploadMultiple(runContext, client, bucket, baseKey, filesToUpload);
             }
         }
     }
 
-    private Map<String, String> parseFromProperty(RunContext runContext) throws Exception {
-        Data data = Data.from(this.from);
+    /**
+     * Detects the type of {@code from} once and exposes it as a lazy stream of (relative name, URI) entries.
+     */
+    private Flux<Map.Entry<String, String>> parseFromProperty(RunContext runContext) throws Exception {
+        if (runContext.render(this.fromList).as(Boolean.class).orElse(false)) {
+            String rFrom = this.from instanceof String fromString ? runContext.render(fromString).trim() : null;
+            if (rFrom == null || !URIFetcher.supports(rFrom)) {
+                throw new IllegalArgumentException("'fromList' requires 'from' to be the URI of an ion or JSONL file listing the files to upload");
+            }
 
-        if (this.from instanceof String fromString && URIFetcher.supports(runContext.render(fromString))) {
-            return uriListToMap(java.util.List.of(fromString));
+            // the rows of the listing are read one at a time, and the file is read again by each subscription
+            return Flux.using(
+                    () -> new BufferedReader(new InputStreamReader(URIFetcher.of(rFrom).fetch(runContext), StandardCharsets.UTF_8), FileSerde.BUFFER_SIZE),
+                    throwFunction(FileSerde::readAll),
+                    Upload::close
+                )
+                .concatMapIterable(Upload::entries);
         }
 
-        try {
-            Function<Map<String, Object>, Map<String, String>> mapper = map ->
-            {
-                Map<String, String> result = new HashMap<>();
-                for (Map.Entry<String, Object> entry : map.entrySet()) {
-                    result.put(entry.getKey(), entry.getValue().toString());
-                }
-                return result;
-            };
+        if (this.from instanceof String fromString) {
+            String rFrom = runContext.render(fromString).trim();
 
-            @SuppressWarnings("unchecked")
-            Flux<Map<String, String>> rFromMap = data.readAs(runContext, (Class<Map<String, String>>) Map.of().getClass(), mapper);
-            return Objects.requireNonNull(rFromMap.blockFirst());
-        } catch (Exception e) {
-            runContext.logger().debug("'from' property is not a Map, trying List...", e);
-        }
+            if (URIFetcher.supports(rFrom)) {
+                return Flux.just(uriEntry(rFrom));
+            }
 
-        try {
-            @SuppressWarnings("unchecked")
-            Flux<java.util.List<String>> asList = data.readAs(
-                runContext, (Class<java.util.List<String>>) java.util.List.of().getClass(),
-                raw -> raw.keySet().stream().toList()
-            );
-            java.util.List<String> uris = asList.flatMapIterable(i -> i).collectList().block();
-            Map<String, String> r = new HashMap<>();
-            for (String uri : Objects.requireNonNull(uris)) {
-                r.put(FilenameUtils.getName(uri), uri);
+            if (!(rFrom.startsWith("[") || rFrom.startsWith("{"))) {
+                return Flux.just(uriEntry(rFrom));
             }
-            return r;
-        } catch (Exception e) {
-            runContext.logger().debug("'from' property is not a List, trying String...", e);
+
+            // the elements of a JSON array are read one at a time too, an object is read as a map of files;
+            // deferred so that each subscription, the mode probe then the upload, gets its own reader
+            return Flux.defer(throwSupplier(() -> FileSerde.readAll(JacksonMapper.ofJson().readerFor(Object.class).readValues(rFrom))))
+                .concatMapIterable(Upload::entries);
+        }
+
+        if (this.from instanceof Map<?, ?>) {
+            // rendered as a whole, so both the names and the URIs can hold expressions
+            return Data.from(this.from).read(runContext)
+                .concatMapIterable(Upload::entries);
+        }
+
+        if (this.from instanceof Iterable<?> iterable) {
+            return Flux.fromIterable(iterable)
+                .map(throwFunction(uri -> uriEntry(runContext.render(uri.toString()))));
         }
 
-        Flux<String> rFromString = data.readAs(runContext, String.class, Object::toString);
-        return uriListToMap(Objects.requireNonNull(rFromString.collectList().block()));
+        throw new IllegalArgumentException("Unsupported 'from' property of type " + this.from.getClass().getName() + ", expected a URI, a list or a map");
     }
 
-    private Map<String, String> uriListToMap(java.util.List<String> rUriList) {
-        Map<String, String> rUriMap = new HashMap<>();
-        for (String rUri : rUriList) {
-            rUriMap.put(FilenameUtils.getName(rUri), rUri);
+    /**
+     * A map holds (relative name, URI) entries, anything else is a single URI.
+     */
+    private static java.util.List<Map.Entry<String, String>> entries(Object value) {
+        if (value instanceof Map<?, ?> map) {
+            return map.entrySet().stream()
+                .map(entry -> Map.entry(entry.getKey().toString(), entry.getValue().toString()))
+                .toList();
         }
-        return rUriMap;
+
+        return java.util.List.of(uriEntry(value.toString()));
     }
 
-    private Output uploadSingle(RunContext runContext, MinioAsyncClient client,
-        String bucket, String key, String uri) throws Exception {
-        File tmp = copyTemp(runContext, uri);
+    private static Map.Entry<String, String> uriEntry(String uri) {
+        return Map.entry(FilenameUtils.getName(uri), uri);
+    }
 
-        UploadObjectArgs.Builder builder = UploadObjectArgs.builder()
-            .bucket(bucket)
-            .object(key)
-            .filename(tmp.getAbsolutePath());
+    private static void close(BufferedReader reader) {
+        try {
+            reader.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 
-        applyOptions(runContext, builder);
+    private Output uploadSingle(RunContext runContext, MinioAsyncClient client,
+        String bucket, String baseKey, String uri) throws Exception {
+        String key = compressedKey(runContext, baseKey);
+        Staged staged = stage(runContext, client, bucket, key, uri);
 
-        ObjectWriteResponse res = client.uploadObject(builder.build()).get();
+        if (staged.unchanged()) {
+            return Output.builder()
+                .bucket(bucket)
+                .key(key)
+                .eTag(staged.existing().etag())
+                .versionId(staged.existing().versionId())
+                .build();
+        }
+
+        ObjectWriteResponse res = putFile(runContext, client, bucket, key, uri, staged);
 
         runContext.metric(Counter.of("file.count", 1));
-        runContext.metric(Counter.of("file.size", tmp.length()));
+        runContext.metric(Counter.of("file.size", staged.file().length()));
 
         return Output.builder()
             .bucket(bucket)
@@ -233,26 +464,80 @@ public class Upload extends AbstractMinioObject implements RunnableTask<Upload.O
     }
 
     private Output uploadMultiple(RunContext runContext, MinioAsyncClient client,
-        String bucket, String baseKey, Map<String, String> files) throws Exception {
+        String bucket, String baseKey, Flux<Map.Entry<String, String>> files) throws Exception {
+        if (this.snowball != null) {
+            return uploadSnowball(runContext, client, bucket, baseKey, files);
+        }
 
-        for (Map.Entry<String, String> entry : files.entrySet()) {
+        for (Map.Entry<String, String> entry : files.toIterable(PREFETCH)) {
             String relativeName = entry.getKey();
             String uri = entry.getValue();
-            String finalKey = Path.of(baseKey, relativeName).toString();
+            String finalKey = compressedKey(runContext, Path.of(baseKey, relativeName).toString());
 
-            File tmp = copyTemp(runContext, uri);
+            Staged staged = stage(runContext, client, bucket, finalKey, uri);
+            if (staged.unchanged()) {
+                continue;
+            }
 
-            UploadObjectArgs.Builder builder = UploadObjectArgs.builder()
-                .bucket(bucket)
-                .object(finalKey)
-                .filename(tmp.getAbsolutePath());
+            putFile(runContext, client, bucket, finalKey, uri, staged);
+
+            runContext.metric(Counter.of("file.count", 1));
+            runContext.metric(Counter.of("file.size", staged.file().length()));
+        }
+
+        return Output.builder()
+            .bucket(bucket)
+            .key(baseKey)
+            .build();
+    }
 
-            applyOptions(runContext, builder);
+    private Output uploadSnowball(RunContext runContext, MinioAsyncClient client,
+        String bucket, String baseKey, Flux<Map.Entry<String, String>> files) throws Exception {
+        int rBatchSize = runContext.render(this.snowball.getBatchSize()).as(Integer.class).orElseThrow();
+        long rBatchBytes = runContext.render(this.snowball.getBatchBytes()).as(Long.class).orElseThrow();
+        boolean rCompression = runContext.render(this.snowball.getCompression()).as(Boolean.class).orElse(false);
+        boolean rSkipIfUnchanged = runContext.render(this.skipIfUnchanged).as(Boolean.class).orElse(false);
 
-            ObjectWriteResponse res = client.uploadObject(builder.build()).get();
+        // the objects of an archive can't carry a Content-Encoding, their content wouldn't be decoded on download
+        if (runContext.render(this.compression).as(Compression.class).orElse(Compression.NONE) != Compression.NONE) {
+            throw new IllegalArgumentException("'compression' can't be used with 'snowball', use 'snowball.compression' to compress the archives instead");
+        }
 
-            runContext.metric(Counter.of("file.count", 1));
-            runContext.metric(Counter.of("file.size", tmp.length()));
+        java.util.List<SnowballObject> batch = new java.util.ArrayList<>();
+        java.util.List<File> batchFiles = new java.util.ArrayList<>();
+        long batchBytes = 0;
+
+        for (Map.Entry<String, String> entry : files.toIterable(PREFETCH)) {
+            String finalKey = Path.of(baseKey, entry.getKey()).toString();
+
+            if (rSkipIfUnchanged) {
+                Staged staged = stage(runContext, client, bucket, finalKey, entry.getValue());
+                if (staged.unchanged()) {
+                    continue;
+                }
+
+                batch.add(new SnowballObject(finalKey, staged.file().getAbsolutePath()));
+                batchFiles.add(staged.file());
+                batchBytes += staged.file().length();
+            } else {
+                // written straight from the internal storage into the archive, with no copy of its own on disk
+                URI uri = new URI(runContext.render(entry.getValue()));
+                long size = runContext.storage().getAttributes(uri).getSize();
+
+                batch.add(new SnowballObject(finalKey, new StorageInputStream(runContext, uri), size, null));
+                batchBytes += size;
+            }
+
+            if (batch.size() >= rBatchSize || batchBytes >= rBatchBytes) {
+                sendSnowball(runContext, client, bucket, batch, batchFiles, batchBytes, rCompression);
+                batch = new java.util.ArrayList<>();
+                batchFiles = new java.util.ArrayList<>();
+                batchBytes = 0;
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            sendSnowball(runContext, client, bucket, batch, batchFiles, batchBytes, rCompression);
         }
 
         return Output.builder()
@@ -261,15 +546,223 @@ public class Upload extends AbstractMinioObject implements RunnableTask<Upload.O
             .build();
     }
 
-    private File copyTemp(RunContext runContext, String uri) throws Exception {
+    private void sendSnowball(RunContext runContext, MinioAsyncClient client, String bucket,
+        java.util.List<SnowballObject> batch, java.util.List<File> batchFiles, long batchBytes, boolean compression) throws Exception {
+        // stage the archive on disk so memory stays flat whatever the batch size
+        File staging = runContext.workingDir().createTempFile(".tar").toFile();
+
+        try {
+            client.uploadSnowballObjects(
+                UploadSnowballObjectsArgs.builder()
+                    .bucket(bucket)
+                    .objects(batch)
+                    .stagingFilename(staging.getAbsolutePath())
+                    .compression(compression)
+                    .build()
+            ).get();
+        } finally {
+            for (SnowballObject object : batch) {
+                if (object.stream() != null) {
+                    object.stream().close();
+                }
+            }
+            staging.delete();
+            batchFiles.forEach(File::delete);
+        }
+
+        runContext.logger().debug("Uploaded a snowball batch of {} files for {} bytes", batch.size(), batchBytes);
+        runContext.metric(Counter.of("file.count", batch.size()));
+        runContext.metric(Counter.of("file.size", batchBytes));
+    }
+
+    /**
+     * A file of the internal storage opened on its first read and closed once fully read, so that a snowball batch
+     * doesn't hold one open stream per file while its archive is written.
+     */
+    private static class StorageInputStream extends InputStream {
+        private final RunContext runContext;
+        private final URI uri;
+        private InputStream in;
+
+        StorageInputStream(RunContext runContext, URI uri) {
+            this.runContext = runContext;
+            this.uri = uri;
+        }
+
+        private InputStream in() throws IOException {
+            if (this.in == null) {
+                this.in = this.runContext.storage().getFile(this.uri);
+            }
+
+            return this.in;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int read = this.in().read();
+            if (read < 0) {
+                this.close();
+            }
+
+            return read;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = this.in().read(b, off, len);
+            if (read < 0) {
+                this.close();
+            }
+
+            return read;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (this.in != null) {
+                this.in.close();
+            }
+            this.in = InputStream.nullInputStream();
+        }
+    }
+
+    private Staged stage(RunContext runContext, MinioAsyncClient client, String bucket, String key, String uri) throws Exception {
+        if (!runContext.render(this.skipIfUnchanged).as(Boolean.class).orElse(false)) {
+            return new Staged(copyTemp(runContext, uri, null), null, null, false);
+        }
+
+        // the HEAD request runs while the file is copied and hashed
+        CompletableFuture<StatObjectResponse> head = client.statObject(StatObjectArgs.builder().bucket(bucket).object(key).build());
+
+        MessageDigest digest = MessageDigest.getInstance("MD5");
+        File tmp = copyTemp(runContext, uri, digest);
+        String md5 = HexFormat.of().formatHex(digest.digest());
+
+        StatObjectResponse existing;
+        try {
+            existing = head.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof ErrorResponseException errorResponse &&
+                errorResponse.errorResponse().code().equals("NoSuchKey")) {
+                return new Staged(tmp, md5, null, false);
+            }
+
+            throw e;
+        }
+
+        String etag = existing.etag() == null ? null : existing.etag().replace("\"", "");
+        boolean unchanged = existing.size() == tmp.length() &&
+            (md5.equalsIgnoreCase(etag) || md5.equalsIgnoreCase(existing.userMetadata().getFirst(MD5_METADATA)));
+
+        if (unchanged) {
+            runContext.logger().debug("Skipping '{}', identical to the existing object", key);
+            runContext.metric(Counter.of("file.skipped.count", 1));
+            runContext.metric(Counter.of("file.skipped.size", tmp.length()));
+            tmp.delete();
+        }
+
+        return new Staged(tmp, md5, existing, unchanged);
+    }
+
+    private File copyTemp(RunContext runContext, String uri, MessageDigest digest) throws Exception {
         File temp = runContext.workingDir().createTempFile(FilenameUtils.getExtension(uri)).toFile();
         URI from = new URI(runContext.render(uri));
-        Files.copy(runContext.storage().getFile(from), temp.toPath(), StandardCopyOption.REPLACE_EXISTING);
+
+        Compression rCompression = runContext.render(this.compression).as(Compression.class).orElse(Compression.NONE);
+        Integer rLevel = runContext.render(this.compressionLevel).as(Integer.class).orElse(null);
+
+        OutputStream fileOut = digest != null ? new DigestOutputStream(new FileOutputStream(temp), digest) : new FileOutputStream(temp);
+
+        long raw;
+        try (
+            InputStream in = runContext.storage().getFile(from);
+            OutputStream out = rCompression.wrap(fileOut, rLevel)
+        ) {
+            raw = in.transferTo(out);
+        }
+
+        if (rCompression != Compression.NONE) {
+            runContext.metric(Counter.of("file.size.raw", raw));
+            runContext.logger().debug("Compressed '{}' with {} from {} to {} bytes", uri, rCompression, raw, temp.length());
+        }
+
         return temp;
     }
 
-    private void applyOptions(RunContext runContext, UploadObjectArgs.Builder builder) throws Exception {
-        var metadataValue = runContext.render(this.metadata).asMap(String.class, String.class);
+    private String compressedKey(RunContext runContext, String key) throws Exception {
+        Compression rCompression = runContext.render(this.compression).as(Compression.class).orElse(Compression.NONE);
+
+        if (rCompression == Compression.NONE ||
+            !runContext.render(this.appendCompressionExtension).as(Boolean.class).orElse(true) ||
+            key.endsWith(rCompression.extension)) {
+            return key;
+        }
+
+        return key + rCompression.extension;
+    }
+
+    private Map<String, String> headers(RunContext runContext) throws Exception {
+        Map<String, String> headers = new HashMap<>();
+        runContext.render(this.contentType).as(String.class).ifPresent(value -> headers.put("Content-Type", value));
+
+        Compression rCompression = runContext.render(this.compression).as(Compression.class).orElse(Compression.NONE);
+        if (rCompression != Compression.NONE) {
+            headers.put("Content-Encoding", rCompression.encoding);
+        }
+
+        return headers;
+    }
+
+    private Map<String, String> userMetadata(RunContext runContext, Staged staged) throws Exception {
+        Map<String, String> userMetadata = new HashMap<>(runContext.render(this.metadata).asMap(String.class, String.class));
+
+        // keep the checksum along the object, so multipart uploads can be compared on the next run
+        if (staged.md5() != null) {
+            userMetadata.put(MD5_METADATA, staged.md5());
+        }
+
+        return userMetadata;
+    }
+
+    private ObjectWriteResponse putFile(RunContext runContext, MinioAsyncClient client,
+        String bucket, String key, String uri, Staged staged) throws Exception {
+        File file = staged.file();
+        long rPartSize = runContext.render(this.partSize).as(Long.class).orElseThrow();
+
+        if (runContext.render(this.resumable).as(Boolean.class).orElse(false) && file.length() > rPartSize) {
+            if (rPartSize < MIN_PART_SIZE) {
+                throw new IllegalArgumentException("'partSize' must be at least 5 MiB, got " + rPartSize);
+            }
+
+            Map<String, String> headers = headers(runContext);
+            userMetadata(runContext, staged).forEach((name, value) -> headers.put("x-amz-meta-" + name, value));
+
+            return ResumableUpload.upload(
+                runContext,
+                client,
+                this.id,
+                bucket,
+                key,
+                runContext.render(uri),
+                file,
+                rPartSize,
+                runContext.render(this.resumableTtl).as(Duration.class).orElseThrow(),
+                headers
+            );
+        }
+
+        UploadObjectArgs.Builder builder = UploadObjectArgs.builder()
+            .bucket(bucket)
+            .object(key)
+            .filename(file.getAbsolutePath());
+
+        applyOptions(runContext, builder, staged);
+
+        return client.uploadObject(builder.build()).get();
+    }
+
+    private void applyOptions(RunContext runContext, UploadObjectArgs.Builder builder, Staged staged) throws Exception {
+        var metadataValue = userMetadata(runContext, staged);
         if (!metadataValue.isEmpty()) {
             builder.userMetadata(metadataValue);
         }
@@ -277,6 +770,37 @@ public class Upload extends AbstractMinioObject implements RunnableTask<Upload.O
         if (this.contentType != null) {
             builder.contentType(runContext.render(this.contentType).as(String.class).orElseThrow());
         }
+
+        Compression rCompression = runContext.render(this.compression).as(Compression.class).orElse(Compression.NONE);
+        if (rCompression != Compression.NONE) {
+            builder.headers(Map.of("Content-Encoding", rCompression.encoding));
+        }
+    }
+
+    private record Staged(File file, String md5, StatObjectResponse existing, boolean unchanged) {
+    }
+
+    @SuperBuilder(toBuilder = true)
+    @Getter
+    @NoArgsConstructor
+    public static class Snowball {
+        @Schema(
+            title = "The maximum number of files per archive"
+        )
+        @Builder.Default
+        private Property<Integer> batchSize = Property.ofValue(1000);
+
+        @Schema(
+            title = "The maximum total size of the files per archive, in bytes"
+        )
+        @Builder.Default
+        private Property<Long> batchBytes = Property.ofValue(256L * 1024 * 1024);
+
+        @Schema(
+            title = "Whether to compress the archive sent to the server"
+        )
+        @Builder.Default
+        private Property<Boolean> compression = Property.ofValue(false);
     }
 
     @SuperBuilder
@@ -2,6 +2,11 @@ package io.kestra.plugin.minio.model;
 
 import java.net.URI;
 import java.time.Instant;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 
 import io.minio.messages.Item;
 import lombok.Builder;
@@ -25,14 +30,64 @@ public class MinioObject {
 
     Owner owner;
 
+    String contentType;
+
+    Map<String, String> userMetadata;
+
+    private static final String USER_METADATA_PREFIX = "x-amz-meta-";
+
+    private static final Set<Field> ALL_FIELDS = EnumSet.allOf(Field.class);
+
     public static MinioObject of(Item object) {
-        return MinioObject.builder()
-            .key(object.objectName())
-            .etag(object.etag())
-            .size(object.size())
-            .lastModified(object.lastModified().toInstant())
-            .owner(Owner.of(object.owner()))
-            .build();
+        return of(object, ALL_FIELDS);
+    }
+
+    /**
+     * Only converts the requested fields, the others are left null.
+     */
+    public static MinioObject of(Item object, Set<Field> fields) {
+        MinioObjectBuilder builder = MinioObject.builder()
+            .key(object.objectName());
+
+        if (fields.contains(Field.ETAG)) {
+            builder.etag(object.etag());
+        }
+        if (fields.contains(Field.SIZE)) {
+            builder.size(object.size());
+        }
+        if (fields.contains(Field.LAST_MODIFIED) && object.lastModified() != null) {
+            builder.lastModified(object.lastModified().toInstant());
+        }
+        if (fields.contains(Field.OWNER)) {
+            builder.owner(Owner.of(object.owner()));
+        }
+
+        // only present when listed with the MinIO user metadata extension
+        if (object.userMetadata() != null) {
+            Map<String, String> userMetadata = new HashMap<>();
+
+            object.userMetadata().forEach((name, value) -> {
+                String lowerName = name.toLowerCase(Locale.ROOT);
+
+                if (lowerName.equals("content-type")) {
+                    builder.contentType(value);
+                } else if (lowerName.startsWith(USER_METADATA_PREFIX)) {
+                    userMetadata.put(lowerName.substring(USER_METADATA_PREFIX.length()), value);
+                }
+            });
+
+            builder.userMetadata(userMetadata);
+        }
+
+        return builder.build();
+    }
+
+    public enum Field {
+        KEY,
+        ETAG,
+        SIZE,
+        LAST_MODIFIED,
+        OWNER
     }
 
 }
@@ -0,0 +1,198 @@
+package io.kestra.plugin.minio;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.common.FetchType;
+import io.kestra.core.serializers.FileSerde;
+import io.kestra.core.tenant.TenantService;
+import io.kestra.core.utils.IdUtils;
+
+import io.minio.GetObjectArgs;
+import io.minio.MinioClient;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class CopiesTest extends AbstractMinIoTest {
+
+    @Test
+    void prefix() throws Exception {
+        this.createBucket();
+
+        for (int i = 0; i < 5; i++) {
+            upload("tasks/copies/source");
+        }
+        upload("tasks/copies/other");
+
+        Copies task = copies()
+            .prefix(Property.ofValue("tasks/copies/source/"))
+            .to(Copies.Destination.builder().prefix(Property.ofValue("tasks/copies/destination/")).build())
+            .concurrency(Property.ofValue(2))
+            .storeResults(Property.ofValue(true))
+            .build();
+        Copies.Output output = task.run(runContext(task));
+
+        assertThat(output.getCount(), is(5L));
+        assertThat(output.getErrors(), is(0L));
+
+        List list = list().prefix(Property.ofValue("tasks/copies/destination/")).build();
+        assertThat(list.run(runContext(list)).getObjects().size(), is(5));
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+            storageInterface.get(TenantService.MAIN_TENANT, null, output.getUri()),
+            StandardCharsets.UTF_8
+        ))) {
+            java.util.List<Object> results = FileSerde.readAll(reader).collectList().block();
+
+            assertThat(results.size(), is(5));
+            for (Object result : results) {
+                Map<?, ?> row = (Map<?, ?>) result;
+                assertThat((String) row.get("destination"), startsWith("tasks/copies/destination/"));
+                assertThat(row.get("error"), is(nullValue()));
+            }
+        }
+    }
+
+    @Test
+    void fromList() throws Exception {
+        this.createBucket();
+        String destination = IdUtils.create().toLowerCase();
+        this.createBucket(destination);
+
+        for (int i = 0; i < 3; i++) {
+            upload("tasks/copies");
+        }
+
+        List list = list().fetchType(Property.ofValue(FetchType.STORE)).build();
+        List.Output listed = list.run(runContext(list));
+
+        Copies task = copies()
+            .from(Property.ofValue(listed.getUri().toString()))
+            .to(Copies.Destination.builder().bucket(Property.ofValue(destination)).build())
+            .build();
+        Copies.Output output = task.run(runContext(task));
+
+        assertThat(output.getCount(), is(3L));
+
+        list = list().bucket(Property.ofValue(destination)).build();
+        assertThat(list.run(runContext(list)).getObjects().size(), is(3));
+    }
+
+    @Test
+    void connection() throws Exception {
+        this.createBucket();
+        String destination = IdUtils.create().toLowerCase();
+        this.createBucket(destination);
+
+        byte[] content = new byte[11 * 1024 * 1024];
+        new Random(42).nextBytes(content);
+
+        String small = upload("tasks/copies");
+        URI uri = storageInterface.put(TenantService.MAIN_TENANT, null, new URI("/" + IdUtils.create()), new ByteArrayInputStream(content));
+        Upload upload = Upload.builder()
+            .id(IdUtils.create())
+            .type(Upload.class.getName())
+            .endpoint(Property.ofValue(minIOContainer.getS3URL()))
+            .accessKeyId(Property.ofValue(minIOContainer.getUserName()))
+            .secretKeyId(Property.ofValue(minIOContainer.getPassword()))
+            .bucket(Property.ofValue(this.BUCKET))
+            .region(Property.ofValue(minIOContainer.getRegion()))
+            .from(uri.toString())
+            .key(Property.ofValue("tasks/copies/large"))
+            .build();
+        upload.run(runContext(upload));
+
+        // the same server behind a second connection still streams the objects through the worker
+        Copies task = copies()
+            .prefix(Property.ofValue("tasks/copies/"))
+            .to(Copies.Destination.builder()
+                .bucket(Property.ofValue(destination))
+                .prefix(Property.ofValue("tasks/copies/"))
+                .connection(Copies.Connection.builder()
+                    .endpoint(Property.ofValue(minIOContainer.getS3URL()))
+                    .accessKeyId(Property.ofValue(minIOContainer.getUserName()))
+                    .secretKeyId(Property.ofValue(minIOContainer.getPassword()))
+                    .region(Property.ofValue(minIOContainer.getRegion()))
+                    .build()
+                )
+                .build()
+            )
+            .partSize(Property.ofValue(5L * 1024 * 1024))
+            .partConcurrency(Property.ofValue(2))
+            .build();
+        Copies.Output output = task.run(runContext(task));
+
+        assertThat(output.getCount(), is(2L));
+
+        try (MinioClient client = task.client(runContext(task))) {
+            try (InputStream copied = client.getObject(GetObjectArgs.builder().bucket(destination).object("tasks/copies/large").build())) {
+                assertThat(copied.readAllBytes(), is(content));
+            }
+
+            try (InputStream copied = client.getObject(GetObjectArgs.builder().bucket(destination).object(small).build())) {
+                assertThat(copied.readAllBytes().length, is((int) file().length()));
+            }
+        }
+    }
+
+    @Test
+    void parts() throws Exception {
+        InputStream in = new ByteArrayInputStream(new byte[10]);
+        byte[] first = in.readNBytes(4);
+
+        assertThat(Copies.parts(in, first, 4).map(part -> part.length).collectList().block(), contains(4, 4, 2));
+    }
+
+    @Test
+    void overlaps() {
+        assertThat(Copies.overlaps("data/", "data/backup/", true), is(true));
+        assertThat(Copies.overlaps("", "backup/", true), is(true));
+        assertThat(Copies.overlaps("data/backup/", "data/", true), is(true));
+        assertThat(Copies.overlaps("data/", "backup/", true), is(false));
+        // keys read from a file are not listed again
+        assertThat(Copies.overlaps("", "backup/", false), is(false));
+        assertThat(Copies.overlaps("data/", "data/", false), is(true));
+    }
+
+    @Test
+    void nestedDestination() {
+        Copies task = copies()
+            .prefix(Property.ofValue("data/"))
+            .to(Copies.Destination.builder().prefix(Property.ofValue("data/backup/")).build())
+            .build();
+
+        assertThrows(IllegalArgumentException.class, () -> task.run(runContext(task)));
+    }
+
+    @Test
+    void destination() {
+        assertThat(Copies.destination("source/a/b.csv", "source/", "backup/"), is("backup/a/b.csv"));
+        assertThat(Copies.destination("a.csv", "", "backup/"), is("backup/a.csv"));
+    }
+
+    private Copies.CopiesBuilder<?, ?> copies() {
+        return Copies.builder()
+            .id(CopiesTest.class.getSimpleName())
+            .type(Copies.class.getName())
+            .endpoint(Property.ofValue(minIOContainer.getS3URL()))
+            .accessKeyId(Property.ofValue(minIOContainer.getUserName()))
+            .secretKeyId(Property.ofValue(minIOContainer.getPassword()))
+            .region(Property.ofValue(minIOContainer.getRegion()))
+            .bucket(Property.ofValue(this.BUCKET));
+    }
+
+}
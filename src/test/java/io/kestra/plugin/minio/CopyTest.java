@@ -1,7 +1,12 @@
 package io.kestra.plugin.minio;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.net.URI;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Map;
+import java.util.Random;
 
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -10,8 +15,18 @@ import org.testcontainers.utility.DockerImageName;
 import org.testcontainers.utility.MountableFile;
 
 import io.kestra.core.models.property.Property;
+import io.kestra.core.tenant.TenantService;
 import io.kestra.core.utils.IdUtils;
 
+import io.minio.GetObjectArgs;
+import io.minio.GetObjectTagsArgs;
+import io.minio.Http;
+import io.minio.MinioClient;
+import io.minio.PutObjectArgs;
+import io.minio.StatObjectArgs;
+import io.minio.StatObjectResponse;
+import io.minio.messages.Tags;
+
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
@@ -168,4 +183,148 @@ public class CopyTest extends AbstractMinIoTest {
         this.run(true);
     }
 
+    @Test
+    void multipart() throws Exception {
+        this.createBucket();
+
+        byte[] content = new byte[11 * 1024 * 1024];
+        new Random(42).nextBytes(content);
+
+        String source = "tasks/%s/large".formatted(IdUtils.create());
+        String destination = "tasks/%s/large".formatted(IdUtils.create());
+
+        URI uri = storageInterface.put(TenantService.MAIN_TENANT, null, new URI("/" + IdUtils.create()), new ByteArrayInputStream(content));
+        Upload upload = Upload.builder()
+            .id(IdUtils.create())
+            .type(Upload.class.getName())
+            .endpoint(Property.ofValue(minIOContainer.getS3URL()))
+            .accessKeyId(Property.ofValue(minIOContainer.getUserName()))
+            .secretKeyId(Property.ofValue(minIOContainer.getPassword()))
+            .bucket(Property.ofValue(this.BUCKET))
+            .region(Property.ofValue(minIOContainer.getRegion()))
+            .from(uri.toString())
+            .key(Property.ofValue(source))
+            .build();
+        upload.run(runContext(upload));
+
+        Copy task = Copy.builder()
+            .id(CopyTest.class.getSimpleName())
+            .type(Copy.class.getName())
+            .endpoint(Property.ofValue(minIOContainer.getS3URL()))
+            .accessKeyId(Property.ofValue(minIOContainer.getUserName()))
+            .secretKeyId(Property.ofValue(minIOContainer.getPassword()))
+            .region(Property.ofValue(minIOContainer.getRegion()))
+            .partSize(Property.ofValue(5L * 1024 * 1024))
+            .concurrency(Property.ofValue(2))
+            .from(
+                Copy.CopyObjectFrom
+                    .builder()
+                    .bucket(Property.ofValue(this.BUCKET))
+                    .key(Property.ofValue(source))
+                    .build()
+            )
+            .to(
+                Copy.CopyObject
+                    .builder()
+                    .key(Property.ofValue(destination))
+                    .build()
+            )
+            .build();
+
+        Copy.Output copyOutput = task.run(runContext(task));
+        assertThat(copyOutput.getKey(), is(destination));
+
+        try (MinioClient client = task.client(runContext(task));
+             InputStream copied = client.getObject(GetObjectArgs.builder().bucket(this.BUCKET).object(destination).build())) {
+            assertThat(copied.readAllBytes(), is(content));
+        }
+    }
+
+    @Test
+    void multipartMetadata() throws Exception {
+        this.createBucket();
+
+        byte[] content = new byte[11 * 1024 * 1024];
+        new Random(42).nextBytes(content);
+
+        String source = "tasks/%s/large.gz".formatted(IdUtils.create());
+        String destination = "tasks/%s/large.gz".formatted(IdUtils.create());
+
+        Copy task = Copy.builder()
+            .id(CopyTest.class.getSimpleName())
+            .type(Copy.class.getName())
+            .endpoint(Property.ofValue(minIOContainer.getS3URL()))
+            .accessKeyId(Property.ofValue(minIOContainer.getUserName()))
+            .secretKeyId(Property.ofValue(minIOContainer.getPassword()))
+            .region(Property.ofValue(minIOContainer.getRegion()))
+            .partSize(Property.ofValue(5L * 1024 * 1024))
+            .from(
+                Copy.CopyObjectFrom
+                    .builder()
+                    .bucket(Property.ofValue(this.BUCKET))
+                    .key(Property.ofValue(source))
+                    .build()
+            )
+            .to(
+                Copy.CopyObject
+                    .builder()
+                    .key(Property.ofValue(destination))
+                    .build()
+            )
+            .build();
+
+        try (MinioClient client = task.client(runContext(task))) {
+            client.putObject(
+                PutObjectArgs.builder()
+                    .bucket(this.BUCKET)
+                    .object(source)
+                    .data(content, content.length)
+                    .contentType("text/csv")
+                    .headers(Map.of("Content-Encoding", "gzip", "Cache-Control", "max-age=3600"))
+                    .userMetadata(Map.of("origin", "test"))
+                    .tags(Map.of("team", "data eng"))
+                    .build()
+            );
+
+            task.run(runContext(task));
+
+            StatObjectResponse copied = client.statObject(StatObjectArgs.builder().bucket(this.BUCKET).object(destination).build());
+            assertThat(copied.size(), is((long) content.length));
+            assertThat(copied.contentType(), is("text/csv"));
+            assertThat(copied.headers().get("Content-Encoding"), is("gzip"));
+            assertThat(copied.headers().get("Cache-Control"), is("max-age=3600"));
+            assertThat(copied.userMetadata().get("origin"), is("test"));
+
+            Tags tags = client.getObjectTags(GetObjectTagsArgs.builder().bucket(this.BUCKET).object(destination).build());
+            assertThat(tags.get(), is(Map.of("team", "data eng")));
+        }
+    }
+
+    @Test
+    void metadata() {
+        okhttp3.Headers source = okhttp3.Headers.of(
+            "Content-Type", "text/csv",
+            "Content-Encoding", "gzip",
+            "ETag", "\"abc\"",
+            "X-Amz-Meta-Origin", "test",
+            "x-amz-tagging-count", "1"
+        );
+
+        Http.Headers headers = Copy.metadata(source, Map.of("team", "data eng"));
+
+        assertThat(headers.getFirst("Content-Type"), is("text/csv"));
+        assertThat(headers.getFirst("Content-Encoding"), is("gzip"));
+        assertThat(headers.getFirst("x-amz-meta-origin"), is("test"));
+        assertThat(headers.getFirst("x-amz-tagging"), is("team=data%20eng"));
+        assertThat(headers.containsKey("ETag"), is(false));
+        assertThat(Copy.tagged(source), is(true));
+    }
+
+    @Test
+    void partSize() {
+        assertThat(Copy.partSize(1024L * 1024 * 1024, Copy.DEFAULT_PART_SIZE), is(Copy.DEFAULT_PART_SIZE));
+        // 5 TiB don't fit in 10,000 parts of 128 MiB
+        assertThat(Copy.partSize(5L * 1024 * 1024 * 1024 * 1024, Copy.DEFAULT_PART_SIZE), is(549755814L));
+    }
+
 }
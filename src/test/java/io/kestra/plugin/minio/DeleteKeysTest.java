@@ -0,0 +1,99 @@
+package io.kestra.plugin.minio;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.common.FetchType;
+import io.kestra.core.tenant.TenantService;
+import io.kestra.core.utils.IdUtils;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class DeleteKeysTest extends AbstractMinIoTest {
+
+    @Test
+    void fromList() throws Exception {
+        this.createBucket();
+
+        for (int i = 0; i < 5; i++) {
+            upload("/tasks/keys");
+        }
+
+        List list = list().fetchType(Property.ofValue(FetchType.STORE)).build();
+        List.Output listed = list.run(runContext(list));
+
+        DeleteKeys task = deleteKeys()
+            .from(Property.ofValue(listed.getUri().toString()))
+            .batchSize(Property.ofValue(2))
+            .concurrent(2)
+            .build();
+        DeleteKeys.Output output = task.run(runContext(task));
+
+        assertThat(output.getCount(), is(5L));
+
+        list = list().build();
+        assertThat(list.run(runContext(list)).getCount(), is(0L));
+    }
+
+    @Test
+    void fromCsv() throws Exception {
+        this.createBucket();
+
+        String first = upload("/tasks/keys");
+        String second = upload("/tasks/keys");
+        upload("/tasks/keys");
+
+        String csv = "id,path\n1,\"%s\"\n2,%s\n".formatted(first, second);
+        URI uri = storageInterface.put(
+            TenantService.MAIN_TENANT,
+            null,
+            new URI("/" + IdUtils.create() + ".csv"),
+            new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8))
+        );
+
+        DeleteKeys task = deleteKeys()
+            .from(Property.ofValue(uri.toString()))
+            .keyField(Property.ofValue("path"))
+            .build();
+        DeleteKeys.Output output = task.run(runContext(task));
+
+        assertThat(output.getCount(), is(2L));
+        List list = list().build();
+        assertThat(list.run(runContext(list)).getCount(), is(1L));
+    }
+
+    @Test
+    void jsonl() throws Exception {
+        String jsonl = "{\"key\": \"a.csv\", \"versionId\": \"v1\"}\n\"b.csv\"\n";
+
+        java.util.List<DeleteKeys.Key> keys = DeleteKeys.keys(
+            new BufferedReader(new StringReader(jsonl)),
+            DeleteKeys.Format.JSONL,
+            "key",
+            "versionId"
+        ).collectList().block();
+
+        assertThat(keys.size(), is(2));
+        assertThat(keys.getFirst(), is(new DeleteKeys.Key("a.csv", "v1")));
+        assertThat(keys.getLast(), is(new DeleteKeys.Key("b.csv", null)));
+    }
+
+    private DeleteKeys.DeleteKeysBuilder<?, ?> deleteKeys() {
+        return DeleteKeys.builder()
+            .id(DeleteKeysTest.class.getSimpleName())
+            .type(DeleteKeys.class.getName())
+            .bucket(Property.ofValue(this.BUCKET))
+            .endpoint(Property.ofValue(minIOContainer.getS3URL()))
+            .accessKeyId(Property.ofValue(minIOContainer.getUserName()))
+            .secretKeyId(Property.ofValue(minIOContainer.getPassword()))
+            .region(Property.ofValue(minIOContainer.getRegion()));
+    }
+
+}
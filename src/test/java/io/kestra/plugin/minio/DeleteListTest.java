@@ -1,12 +1,24 @@
 package io.kestra.plugin.minio;
 
 import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import io.kestra.core.models.property.Property;
+import io.kestra.plugin.minio.model.MinioObject;
+
+import io.minio.MinioClient;
+import io.minio.Result;
+import io.minio.messages.DeleteResult;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 public class DeleteListTest extends AbstractMinIoTest {
 
@@ -34,4 +46,122 @@ public class DeleteListTest extends AbstractMinIoTest {
         assertThat(run.getSize(), greaterThan(1000L));
     }
 
+    @Test
+    void batches() throws Exception {
+        this.createBucket();
+
+        for (int i = 0; i < 10; i++) {
+            upload("/tasks/s3");
+        }
+
+        DeleteList task = DeleteList.builder()
+            .id(ListTest.class.getSimpleName())
+            .type(DeleteList.class.getName())
+            .bucket(Property.ofValue(this.BUCKET))
+            .endpoint(Property.ofValue(minIOContainer.getS3URL()))
+            .accessKeyId(Property.ofValue(minIOContainer.getUserName()))
+            .secretKeyId(Property.ofValue(minIOContainer.getPassword()))
+            .region(Property.ofValue(minIOContainer.getRegion()))
+            .batchSize(Property.ofValue(3))
+            .build();
+
+        DeleteList.Output run = task.run(runContext(task));
+        assertThat(run.getCount(), is(10L));
+
+        List list = List.builder()
+            .id(ListTest.class.getSimpleName())
+            .type(List.class.getName())
+            .bucket(Property.ofValue(this.BUCKET))
+            .endpoint(Property.ofValue(minIOContainer.getS3URL()))
+            .accessKeyId(Property.ofValue(minIOContainer.getUserName()))
+            .secretKeyId(Property.ofValue(minIOContainer.getPassword()))
+            .region(Property.ofValue(minIOContainer.getRegion()))
+            .build();
+        assertThat(list.run(runContext(list)).getCount(), is(0L));
+    }
+
+    @Test
+    void forceDeletePrefix() throws Exception {
+        this.createBucket();
+
+        for (int i = 0; i < 5; i++) {
+            upload("/tasks/staging");
+        }
+        upload("/tasks/kept");
+
+        DeleteList task = DeleteList.builder()
+            .id(ListTest.class.getSimpleName())
+            .type(DeleteList.class.getName())
+            .bucket(Property.ofValue(this.BUCKET))
+            .endpoint(Property.ofValue(minIOContainer.getS3URL()))
+            .accessKeyId(Property.ofValue(minIOContainer.getUserName()))
+            .secretKeyId(Property.ofValue(minIOContainer.getPassword()))
+            .region(Property.ofValue(minIOContainer.getRegion()))
+            .prefix(Property.ofValue("tasks/staging/"))
+            .forceDeletePrefix(Property.ofValue(true))
+            .build();
+
+        DeleteList.Output run = task.run(runContext(task));
+        // servers without force delete fall back to listing and deleting the keys
+        assertThat(run.isForced() || run.getCount() == 5L, is(true));
+
+        List list = List.builder()
+            .id(ListTest.class.getSimpleName())
+            .type(List.class.getName())
+            .bucket(Property.ofValue(this.BUCKET))
+            .endpoint(Property.ofValue(minIOContainer.getS3URL()))
+            .accessKeyId(Property.ofValue(minIOContainer.getUserName()))
+            .secretKeyId(Property.ofValue(minIOContainer.getPassword()))
+            .region(Property.ofValue(minIOContainer.getRegion()))
+            .build();
+        assertThat(list.run(runContext(list)).getCount(), is(1L));
+    }
+
+    @Test
+    void forceDeletePrefixWithDelimiter() throws Exception {
+        this.createBucket();
+
+        DeleteList task = DeleteList.builder()
+            .id(ListTest.class.getSimpleName())
+            .type(DeleteList.class.getName())
+            .bucket(Property.ofValue(this.BUCKET))
+            .endpoint(Property.ofValue(minIOContainer.getS3URL()))
+            .accessKeyId(Property.ofValue(minIOContainer.getUserName()))
+            .secretKeyId(Property.ofValue(minIOContainer.getPassword()))
+            .region(Property.ofValue(minIOContainer.getRegion()))
+            .prefix(Property.ofValue("tasks/staging/"))
+            .delimiter(Property.ofValue("/"))
+            .forceDeletePrefix(Property.ofValue(true))
+            .build();
+
+        // a delimiter would only delete the keys directly under the prefix, the forced delete removes them all
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> task.run(runContext(task)));
+        assertThat(exception.getMessage(), containsString("'delimiter'"));
+    }
+
+    @Test
+    void partialErrors() throws Exception {
+        DeleteResult.Error error = mock(DeleteResult.Error.class);
+        when(error.objectName()).thenReturn("b");
+        when(error.code()).thenReturn("AccessDenied");
+
+        MinioClient client = mock(MinioClient.class);
+        when(client.removeObjects(any()))
+            .thenReturn(java.util.List.of(new Result<>(error)))
+            .thenReturn(java.util.List.of());
+
+        Logger logger = LoggerFactory.getLogger(DeleteListTest.class);
+
+        // the key the server failed to delete is counted as an error, not in the deleted count and size
+        DeleteList.Deleted first = DeleteList.delete(logger, client, this.BUCKET, java.util.List.of(object("a", 10), object("b", 20)));
+        assertThat(first, is(new DeleteList.Deleted(1, 10, 1)));
+
+        DeleteList.Deleted second = DeleteList.delete(logger, client, this.BUCKET, java.util.List.of(object("c", 30)));
+        assertThat(first.plus(second), is(new DeleteList.Deleted(2, 40, 1)));
+    }
+
+    private static MinioObject object(String key, long size) {
+        return MinioObject.builder().key(key).size(size).build();
+    }
+
 }
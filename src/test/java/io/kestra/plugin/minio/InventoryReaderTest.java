@@ -0,0 +1,25 @@
+package io.kestra.plugin.minio;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+
+class InventoryReaderTest {
+
+    @Test
+    void parseLine() {
+        assertThat(
+            InventoryReader.parseLine("\"bucket\",\"logs/a%2Cb.csv\",\"\",\"12\""),
+            contains("bucket", "logs/a%2Cb.csv", "", "12")
+        );
+        assertThat(
+            InventoryReader.parseLine("\"bucket\",\"say \"\"hi\"\"\",12"),
+            contains("bucket", "say \"hi\"", "12")
+        );
+        assertThat(
+            InventoryReader.parseLine("a,,b,"),
+            contains("a", "", "b", "")
+        );
+    }
+}
@@ -0,0 +1,64 @@
+package io.kestra.plugin.minio;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+class KeyFilterTest {
+
+    @Test
+    void regexpPrefix() {
+        assertThat(KeyFilter.regexpPrefix("logs/2020-01-0.\\.csv"), is("logs/2020-01-0"));
+        assertThat(KeyFilter.regexpPrefix("^logs/a\\.b/.*"), is("logs/a.b/"));
+        assertThat(KeyFilter.regexpPrefix("logs/ab*"), is("logs/a"));
+        assertThat(KeyFilter.regexpPrefix("logs/ab+"), is("logs/ab"));
+        assertThat(KeyFilter.regexpPrefix("logs/\\d+"), is("logs/"));
+        assertThat(KeyFilter.regexpPrefix("logs/a|data/b"), is(""));
+        assertThat(KeyFilter.regexpPrefix("logs/(a|b)"), is("logs/"));
+        assertThat(KeyFilter.regexpPrefix("(?i)logs/"), is(""));
+        assertThat(KeyFilter.regexpPrefix(".*\\.csv"), is(""));
+    }
+
+    @Test
+    void glob() {
+        KeyFilter filter = KeyFilter.of(null, "logs/2020-01-*/**.{csv,json}");
+
+        assertThat(filter.getLiteralPrefix(), is("logs/2020-01-"));
+        assertThat(filter.matches("logs/2020-01-02/a/b/file.csv"), is(true));
+        assertThat(filter.matches("logs/2020-01-02/file.json"), is(true));
+        assertThat(filter.matches("logs/2020-01-02/file.txt"), is(false));
+        assertThat(filter.matches("logs/2020-01-02x/y/file.csv"), is(true));
+        assertThat(filter.matches("logs/2020-02-02/file.csv"), is(false));
+
+        filter = KeyFilter.of(null, "data/file-?.[!0-4].txt");
+        assertThat(filter.matches("data/file-a.5.txt"), is(true));
+        assertThat(filter.matches("data/file-a.3.txt"), is(false));
+        assertThat(filter.matches("data/file-/.5.txt"), is(false));
+    }
+
+    @Test
+    void narrow() {
+        KeyFilter filter = KeyFilter.of("logs/2020/.*", "logs/2020/01/*");
+
+        assertThat(filter.narrow(null, null), is("logs/2020/01/"));
+        assertThat(filter.narrow("logs/", null), is("logs/2020/01/"));
+        assertThat(filter.narrow("logs/2020/01/a", null), is("logs/2020/01/a"));
+        assertThat(KeyFilter.of(null, null).narrow(null, null), nullValue());
+        assertThat(KeyFilter.of(null, null).narrow("logs/", null), is("logs/"));
+    }
+
+    @Test
+    void narrowDelimited() {
+        // a non-recursive listing of logs/ returns the logs/2020/ folder, not the keys inside it
+        KeyFilter filter = KeyFilter.of("logs/2020/a.*", null);
+
+        assertThat(filter.narrow("logs/", "/"), is("logs/2020"));
+        assertThat(filter.narrow(null, "/"), is("logs"));
+        assertThat(filter.narrow("logs/2020/", "/"), is("logs/2020/a"));
+        assertThat(KeyFilter.of("logs/a.*", null).narrow("logs/", "/"), is("logs/a"));
+        assertThat(KeyFilter.of("logs/.*", null).narrow("logs/", "/"), is("logs/"));
+        assertThat(KeyFilter.of("logs/.*", null).narrow(null, "/"), is("logs"));
+    }
+}
@@ -0,0 +1,96 @@
+package io.kestra.plugin.minio;
+
+import java.time.ZonedDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContextFactory;
+
+import io.minio.messages.Filter;
+import io.minio.messages.LifecycleConfiguration;
+import io.minio.messages.Status;
+import jakarta.inject.Inject;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+
+@KestraTest
+class LifecycleTest {
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    @Test
+    void merge() {
+        java.util.List<LifecycleConfiguration.Rule> existing = java.util.List.of(rule("a", 1), rule("b", 2));
+
+        java.util.List<LifecycleConfiguration.Rule> result = Lifecycle.apply(existing, java.util.List.of(rule("b", 5), rule("c", 3)), Lifecycle.Mode.MERGE);
+
+        assertThat(result.stream().map(LifecycleConfiguration.Rule::id).toList(), contains("a", "b", "c"));
+        assertThat(result.get(1).expiration().days(), is(5));
+    }
+
+    @Test
+    void replace() {
+        java.util.List<LifecycleConfiguration.Rule> existing = java.util.List.of(rule("a", 1), rule("b", 2));
+
+        assertThat(
+            Lifecycle.apply(existing, java.util.List.of(rule("c", 3)), Lifecycle.Mode.REPLACE).stream().map(LifecycleConfiguration.Rule::id).toList(),
+            contains("c")
+        );
+        assertThat(Lifecycle.apply(existing, java.util.List.of(), Lifecycle.Mode.REPLACE), empty());
+    }
+
+    @Test
+    void remove() throws Exception {
+        java.util.List<LifecycleConfiguration.Rule> existing = java.util.List.of(rule("a", 1), rule("b", 2), rule("c", 3));
+
+        // rules to remove only have an id, as in the task examples
+        Lifecycle task = Lifecycle.builder()
+            .id(LifecycleTest.class.getSimpleName())
+            .type(Lifecycle.class.getName())
+            .mode(Property.ofValue(Lifecycle.Mode.REMOVE))
+            .rules(java.util.List.of(
+                Lifecycle.Rule.builder().id(Property.ofValue("a")).build(),
+                Lifecycle.Rule.builder().id(Property.ofValue("c")).build()
+            ))
+            .build();
+
+        assertThat(
+            task.configure(runContextFactory.of(), existing).stream().map(LifecycleConfiguration.Rule::id).toList(),
+            contains("b")
+        );
+    }
+
+    @Test
+    void mergeRendered() throws Exception {
+        Lifecycle task = Lifecycle.builder()
+            .id(LifecycleTest.class.getSimpleName())
+            .type(Lifecycle.class.getName())
+            .rules(java.util.List.of(
+                Lifecycle.Rule.builder().id(Property.ofValue("b")).prefix(Property.ofValue("tmp/")).expirationDays(Property.ofValue(7)).build()
+            ))
+            .build();
+
+        java.util.List<LifecycleConfiguration.Rule> result = task.configure(runContextFactory.of(), java.util.List.of(rule("a", 1), rule("b", 2)));
+
+        assertThat(result.stream().map(LifecycleConfiguration.Rule::id).toList(), contains("a", "b"));
+        assertThat(result.get(1).expiration().days(), is(7));
+    }
+
+    private static LifecycleConfiguration.Rule rule(String id, int days) {
+        return new LifecycleConfiguration.Rule(
+            Status.ENABLED,
+            null,
+            new LifecycleConfiguration.Expiration((ZonedDateTime) null, days, null, null),
+            new Filter("tmp/"),
+            id,
+            null,
+            null,
+            null
+        );
+    }
+}
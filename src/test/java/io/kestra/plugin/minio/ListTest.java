@@ -1,13 +1,32 @@
 package io.kestra.plugin.minio;
 
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
 import org.apache.commons.lang3.StringUtils;
 import org.junit.jupiter.api.Test;
 
 import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.common.FetchType;
+import io.kestra.core.serializers.FileSerde;
+import io.kestra.core.tenant.TenantService;
 import io.kestra.core.utils.IdUtils;
+import io.kestra.plugin.minio.model.MinioObject;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasEntry;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class ListTest extends AbstractMinIoTest {
 
@@ -51,6 +70,242 @@ public class ListTest extends AbstractMinIoTest {
             .build();
         output = task.run(runContext(task));
         assertThat(output.getObjects().size(), is(1));
+
+        task = list()
+            .glob(Property.ofValue("tasks/%s/*.yml".formatted(dir)))
+            .build();
+        output = task.run(runContext(task));
+        assertThat(output.getObjects().size(), is(5));
+
+        task = list()
+            .glob(Property.ofValue("tasks/%s/**.yml".formatted(dir)))
+            .build();
+        output = task.run(runContext(task));
+        assertThat(output.getObjects().size(), is(6));
+
+        task = list()
+            .prefix(Property.ofValue("tasks/" + dir + "/"))
+            .limit(Property.ofValue(2))
+            .build();
+        output = task.run(runContext(task));
+        assertThat(output.getObjects().size(), is(2));
+
+        task = list()
+            .glob(Property.ofValue("tasks/%s/sub/*".formatted(dir)))
+            .limit(Property.ofValue(3))
+            .build();
+        output = task.run(runContext(task));
+        assertThat(output.getObjects().size(), is(1));
+    }
+
+    @Test
+    void store() throws Exception {
+        this.createBucket();
+
+        String dir = IdUtils.create();
+        for (int i = 0; i < 3; i++) {
+            upload("/tasks/%s".formatted(dir));
+        }
+
+        List task = list()
+            .prefix(Property.ofValue("tasks/" + dir + "/"))
+            .fetchType(Property.ofValue(FetchType.STORE))
+            .build();
+        List.Output output = task.run(runContext(task));
+
+        assertThat(output.getObjects(), nullValue());
+        assertThat(output.getUri(), notNullValue());
+        assertThat(output.getCount(), is(3L));
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(storageInterface.get(TenantService.MAIN_TENANT, null, output.getUri())))) {
+            assertThat(FileSerde.readAll(reader).count().block(), is(3L));
+        }
+
+        task = list()
+            .prefix(Property.ofValue("tasks/" + dir + "/"))
+            .fetchType(Property.ofValue(FetchType.FETCH_ONE))
+            .build();
+        output = task.run(runContext(task));
+        assertThat(output.getObjects().size(), is(1));
+    }
+
+    @Test
+    void parallel() throws Exception {
+        this.createBucket();
+
+        String dir = IdUtils.create();
+        for (int i = 0; i < 5; i++) {
+            upload("/tasks/%s".formatted(dir));
+        }
+        upload("/tasks/%s/sub".formatted(dir));
+        upload("/tasks/%s/other".formatted(dir));
+
+        List task = list()
+            .prefix(Property.ofValue("tasks/" + dir + "/"))
+            .parallel(List.ParallelListing.builder().build())
+            .build();
+        List.Output output = task.run(runContext(task));
+        assertThat(output.getObjects().size(), is(7));
+
+        task = list()
+            .prefix(Property.ofValue("tasks/" + dir + "/"))
+            .parallel(List.ParallelListing.builder()
+                .strategy(Property.ofValue(List.PartitionStrategy.CHARACTER_RANGE))
+                .concurrency(Property.ofValue(4))
+                .ordered(Property.ofValue(true))
+                .build()
+            )
+            .build();
+        output = task.run(runContext(task));
+        assertThat(output.getObjects().size(), is(7));
+
+        java.util.List<String> keys = output.getObjects().stream().map(MinioObject::getKey).toList();
+        assertThat(keys, is(keys.stream().sorted().toList()));
+    }
+
+    @Test
+    void top() throws Exception {
+        this.createBucket();
+
+        String dir = IdUtils.create();
+        for (int i = 0; i < 5; i++) {
+            upload("/tasks/%s".formatted(dir));
+        }
+
+        List task = list()
+            .prefix(Property.ofValue("tasks/" + dir + "/"))
+            .build();
+        java.util.List<String> keys = task.run(runContext(task)).getObjects().stream()
+            .map(MinioObject::getKey)
+            .sorted(java.util.Comparator.reverseOrder())
+            .toList();
+
+        task = list()
+            .prefix(Property.ofValue("tasks/" + dir + "/"))
+            .sortBy(Property.ofValue(List.SortBy.KEY))
+            .order(Property.ofValue(List.Order.DESC))
+            .top(Property.ofValue(2))
+            .build();
+        List.Output output = task.run(runContext(task));
+
+        assertThat(output.getObjects().stream().map(MinioObject::getKey).toList(), is(keys.subList(0, 2)));
+    }
+
+    @Test
+    void fields() throws Exception {
+        this.createBucket();
+
+        String dir = IdUtils.create();
+        upload("/tasks/%s".formatted(dir));
+
+        List task = list()
+            .prefix(Property.ofValue("tasks/" + dir + "/"))
+            .fields(Property.ofValue(java.util.List.of(MinioObject.Field.SIZE)))
+            .build();
+        List.Output output = task.run(runContext(task));
+
+        MinioObject object = output.getObjects().getFirst();
+        assertThat(object.getKey(), notNullValue());
+        assertThat(object.getSize(), notNullValue());
+        assertThat(object.getEtag(), nullValue());
+        assertThat(object.getLastModified(), nullValue());
+        assertThat(object.getOwner(), nullValue());
+    }
+
+    @Test
+    void userMetadata() throws Exception {
+        this.createBucket();
+
+        String key = "tasks/%s/file.yml".formatted(IdUtils.create());
+        Upload upload = Upload.builder()
+            .id(IdUtils.create())
+            .type(Upload.class.getName())
+            .endpoint(Property.ofValue(minIOContainer.getS3URL()))
+            .accessKeyId(Property.ofValue(minIOContainer.getUserName()))
+            .secretKeyId(Property.ofValue(minIOContainer.getPassword()))
+            .bucket(Property.ofValue(this.BUCKET))
+            .region(Property.ofValue(minIOContainer.getRegion()))
+            .from(storagePut(null).toString())
+            .key(Property.ofValue(key))
+            .contentType(Property.ofValue("application/yaml"))
+            .metadata(Property.ofValue(Map.of("owner", "kestra")))
+            .build();
+        upload.run(runContext(upload));
+
+        List task = list()
+            .prefix(Property.ofValue(key))
+            .includeUserMetadata(Property.ofValue(true))
+            .build();
+        List.Output output = task.run(runContext(task));
+
+        MinioObject object = output.getObjects().getFirst();
+        assertThat(object.getContentType(), is("application/yaml"));
+        assertThat(object.getUserMetadata(), hasEntry("owner", "kestra"));
+    }
+
+    @Test
+    void inventory() throws Exception {
+        this.createBucket();
+
+        String dir = "inventories/%s/daily/".formatted(IdUtils.create());
+
+        ByteArrayOutputStream csv = new ByteArrayOutputStream();
+        try (Writer writer = new OutputStreamWriter(new GZIPOutputStream(csv), StandardCharsets.UTF_8)) {
+            writer.write("\"%s\",\"logs/a.csv\",\"v1\",\"true\",\"false\",\"10\",\"2024-01-01T00:00:00.000Z\",\"etag-a\"\n".formatted(this.BUCKET));
+            writer.write("\"%s\",\"logs/b+file.csv\",\"v1\",\"true\",\"false\",\"20\",\"2024-01-02T00:00:00.000Z\",\"etag-b\"\n".formatted(this.BUCKET));
+            writer.write("\"%s\",\"logs/b+file.csv\",\"v0\",\"false\",\"false\",\"15\",\"2023-12-31T00:00:00.000Z\",\"etag-b0\"\n".formatted(this.BUCKET));
+            writer.write("\"%s\",\"logs/c.json\",\"v1\",\"true\",\"false\",\"30\",\"2024-01-03T00:00:00.000Z\",\"etag-c\"\n".formatted(this.BUCKET));
+            writer.write("\"%s\",\"other/d.csv\",\"v1\",\"true\",\"false\",\"40\",\"2024-01-04T00:00:00.000Z\",\"etag-d\"\n".formatted(this.BUCKET));
+        }
+        put(dir + "data/part-0.csv.gz", csv.toByteArray());
+
+        String manifest = """
+            {
+              "sourceBucket": "%s",
+              "fileFormat": "CSV",
+              "fileSchema": "Bucket, Key, VersionId, IsLatest, IsDeleteMarker, Size, LastModifiedDate, ETag",
+              "files": [{"key": "%sdata/part-0.csv.gz"}]
+            }
+            """.formatted(this.BUCKET, dir);
+        // an older manifest that must be ignored in favor of the most recent one
+        put(dir + "2024-01-01T01-00Z/manifest.json", manifest.replace("CSV", "ORC").getBytes(StandardCharsets.UTF_8));
+        put(dir + "2024-01-02T01-00Z/manifest.json", manifest.getBytes(StandardCharsets.UTF_8));
+
+        List task = list()
+            .prefix(Property.ofValue("logs/"))
+            .glob(Property.ofValue("**.csv"))
+            .includeVersions(Property.ofValue(false))
+            .inventory(List.InventorySource.builder().manifest(Property.ofValue(dir)).build())
+            .build();
+        List.Output output = task.run(runContext(task));
+
+        assertThat(output.getCount(), is(2L));
+        assertThat(output.getObjects().get(0).getKey(), is("logs/a.csv"));
+        assertThat(output.getObjects().get(1).getKey(), is("logs/b file.csv"));
+        assertThat(output.getObjects().get(1).getSize(), is(20L));
+
+        task = list()
+            .inventory(List.InventorySource.builder().manifest(Property.ofValue(dir + "2024-01-01T01-00Z/manifest.json")).build())
+            .build();
+        List finalTask = task;
+        assertThrows(IllegalArgumentException.class, () -> finalTask.run(runContext(finalTask)));
+    }
+
+    private void put(String key, byte[] content) throws Exception {
+        URI source = storageInterface.put(TenantService.MAIN_TENANT, null, new URI("/" + IdUtils.create()), new ByteArrayInputStream(content));
+
+        Upload upload = Upload.builder()
+            .id(IdUtils.create())
+            .type(Upload.class.getName())
+            .endpoint(Property.ofValue(minIOContainer.getS3URL()))
+            .accessKeyId(Property.ofValue(minIOContainer.getUserName()))
+            .secretKeyId(Property.ofValue(minIOContainer.getPassword()))
+            .bucket(Property.ofValue(this.BUCKET))
+            .region(Property.ofValue(minIOContainer.getRegion()))
+            .from(source.toString())
+            .key(Property.ofValue(key))
+            .build();
+        upload.run(runContext(upload));
     }
 
 }
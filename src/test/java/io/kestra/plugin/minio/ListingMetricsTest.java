@@ -0,0 +1,51 @@
+package io.kestra.plugin.minio;
+
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import io.minio.Result;
+import io.minio.messages.Item;
+import reactor.core.publisher.Flux;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+class ListingMetricsTest {
+
+    @Test
+    void pages() {
+        assertThat(pages(2500, 1000), is(3L));
+        assertThat(pages(2000, 1000), is(2L));
+        assertThat(pages(1, 1000), is(1L));
+        assertThat(pages(0, 1000), is(1L));
+    }
+
+    @Test
+    void listed() {
+        ListingMetrics metrics = new ListingMetrics();
+
+        Long count = Flux.fromIterable(metrics.instrument(results(2500), 1000))
+            .take(1200)
+            .count()
+            .block();
+
+        assertThat(count, is(1200L));
+        assertThat(metrics.getListed(), is(1200L));
+        assertThat(metrics.getPages(), is(2L));
+    }
+
+    private static long pages(int size, int pageSize) {
+        ListingMetrics metrics = new ListingMetrics();
+
+        Flux.fromIterable(metrics.instrument(results(size), pageSize)).blockLast();
+
+        assertThat(metrics.getListed(), is((long) size));
+
+        return metrics.getPages();
+    }
+
+    private static Iterable<Result<Item>> results(int size) {
+        return Collections.nCopies(size, new Result<>((Item) null));
+    }
+}
@@ -0,0 +1,103 @@
+package io.kestra.plugin.minio;
+
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.Test;
+
+import io.kestra.core.models.property.Property;
+import io.kestra.plugin.minio.model.MinioObject;
+
+import io.minio.MinioClient;
+import io.minio.Result;
+import io.minio.messages.DeleteResult;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class MinioServiceTest extends AbstractMinIoTest {
+
+    @Test
+    void move() throws Exception {
+        this.createBucket();
+
+        java.util.List<MinioObject> objects = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            objects.add(MinioObject.builder().key(upload("tasks/source")).build());
+        }
+        upload("tasks/kept");
+
+        // 5 keys in batches of 2 take 3 delete requests
+        List connection = list().build();
+        MinioService.performAction(
+            runContext(connection),
+            objects,
+            Downloads.Action.MOVE,
+            this.BUCKET,
+            connection,
+            Copy.CopyObject.builder().key(Property.ofValue("tasks/moved")).build(),
+            2
+        );
+
+        List source = list().prefix(Property.ofValue("tasks/source/")).build();
+        assertThat(source.run(runContext(source)).getObjects().size(), is(0));
+
+        List moved = list().prefix(Property.ofValue("tasks/moved/")).build();
+        assertThat(moved.run(runContext(moved)).getObjects().size(), is(5));
+
+        List kept = list().prefix(Property.ofValue("tasks/kept/")).build();
+        assertThat(kept.run(runContext(kept)).getObjects().size(), is(1));
+    }
+
+    @Test
+    void delete() throws Exception {
+        this.createBucket();
+
+        java.util.List<MinioObject> objects = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            objects.add(MinioObject.builder().key(upload("tasks/source")).build());
+        }
+        upload("tasks/kept");
+
+        List connection = list().build();
+        MinioService.performAction(runContext(connection), objects, Downloads.Action.DELETE, this.BUCKET, connection, null, 2);
+
+        List all = list().build();
+        java.util.List<MinioObject> remaining = all.run(runContext(all)).getObjects();
+        assertThat(remaining.size(), is(1));
+        assertThat(remaining.getFirst().getKey(), containsString("tasks/kept/"));
+    }
+
+    @Test
+    void partialDeleteError() throws Exception {
+        DeleteResult.Error error = mock(DeleteResult.Error.class);
+        when(error.objectName()).thenReturn("b");
+        when(error.code()).thenReturn("AccessDenied");
+        when(error.message()).thenReturn("Access Denied.");
+
+        MinioClient client = mock(MinioClient.class);
+        when(client.removeObjects(any())).thenReturn(java.util.List.of(new Result<>(error)));
+
+        AbstractMinio connection = mock(AbstractMinio.class);
+        when(connection.client(any())).thenReturn(client);
+
+        java.util.List<MinioObject> objects = java.util.List.of("a", "b", "c", "d", "e").stream()
+            .map(key -> MinioObject.builder().key(key).build())
+            .toList();
+
+        IllegalStateException exception = assertThrows(
+            IllegalStateException.class,
+            () -> MinioService.performAction(runContextFactory.of(), objects, Downloads.Action.DELETE, "bucket", connection, null, 2)
+        );
+
+        assertThat(exception.getMessage(), containsString("'b': AccessDenied"));
+        // the batches after the failed one are not sent
+        verify(client, times(1)).removeObjects(any());
+    }
+}
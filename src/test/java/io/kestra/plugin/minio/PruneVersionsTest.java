@@ -0,0 +1,196 @@
+package io.kestra.plugin.minio;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.stream.StreamSupport;
+
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.utility.DockerImageName;
+
+import io.kestra.core.models.property.Property;
+import io.kestra.core.utils.IdUtils;
+
+import io.minio.*;
+import io.minio.messages.Item;
+import io.minio.messages.VersioningConfiguration;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+
+class PruneVersionsTest extends AbstractMinIoTest {
+    private static final Instant NOW = Instant.now();
+
+    @Test
+    void versionedBucket() throws Exception {
+        // the Versity gateway only versions buckets with a versioning directory, MinIO does by itself
+        try (GenericContainer<?> minio = new GenericContainer<>(DockerImageName.parse("minio/minio:latest"))
+            .withEnv("MINIO_ROOT_USER", "testuser")
+            .withEnv("MINIO_ROOT_PASSWORD", "testpassword")
+            .withCommand("server", "/data")
+            .withExposedPorts(9000)
+            .waitingFor(Wait.forHttp("/minio/health/live").forPort(9000))) {
+            minio.start();
+            String endpoint = "http://" + minio.getHost() + ":" + minio.getMappedPort(9000);
+
+            try (MinioClient client = MinioClient.builder().endpoint(endpoint).credentials("testuser", "testpassword").build()) {
+                client.makeBucket(MakeBucketArgs.builder().bucket(this.BUCKET).build());
+                client.setBucketVersioning(SetBucketVersioningArgs.builder()
+                    .bucket(this.BUCKET)
+                    .config(new VersioningConfiguration(VersioningConfiguration.Status.ENABLED, null, null, null))
+                    .build()
+                );
+
+                for (int i = 0; i < 3; i++) {
+                    put(client, "kept.txt", "version " + i);
+                }
+                put(client, "deleted.txt", "version 0");
+                put(client, "deleted.txt", "version 1");
+                client.removeObject(RemoveObjectArgs.builder().bucket(this.BUCKET).object("deleted.txt").build());
+
+                PruneVersions prune = PruneVersions.builder()
+                    .id(IdUtils.create())
+                    .type(PruneVersions.class.getName())
+                    .endpoint(Property.ofValue(endpoint))
+                    .accessKeyId(Property.ofValue("testuser"))
+                    .secretKeyId(Property.ofValue("testpassword"))
+                    .bucket(Property.ofValue(this.BUCKET))
+                    .build();
+
+                // the delete marker still hides the versions deleted along with it, it is kept by the first run
+                PruneVersions.Output output = prune.run(runContext(prune));
+                assertThat(output.getCount(), is(4L));
+                assertThat(output.getDeleteMarkers(), is(0L));
+                assertThat(versions(client, "kept.txt"), is(1L));
+                assertThat(versions(client, "deleted.txt"), is(1L));
+                assertThat(current(client), contains("kept.txt"));
+
+                output = prune.run(runContext(prune));
+                assertThat(output.getCount(), is(1L));
+                assertThat(output.getDeleteMarkers(), is(1L));
+                assertThat(versions(client, "deleted.txt"), is(0L));
+                assertThat(current(client), contains("kept.txt"));
+            }
+        }
+    }
+
+    @Test
+    void keep() {
+        java.util.List<PruneVersions.Version> versions = java.util.List.of(
+            version("v3", 1, true, false),
+            version("v2", 10, false, false),
+            version("v1", 20, false, false)
+        );
+
+        assertThat(PruneVersions.expired(versions, 1, null, true), contains(versions.get(1), versions.get(2)));
+        assertThat(PruneVersions.expired(versions, 2, null, true), contains(versions.get(2)));
+        assertThat(PruneVersions.expired(versions, 3, null, true), empty());
+        // the current version is never pruned
+        assertThat(PruneVersions.expired(versions, 0, null, true), contains(versions.get(1), versions.get(2)));
+    }
+
+    @Test
+    void noncurrentFor() {
+        java.util.List<PruneVersions.Version> versions = java.util.List.of(
+            version("v3", 1, true, false),
+            version("v2", 10, false, false),
+            version("v1", 20, false, false)
+        );
+
+        // v2 is noncurrent for 1 day, v1 for 10 days
+        Instant cutoff = NOW.minus(Duration.ofDays(5));
+        assertThat(PruneVersions.expired(versions, 1, cutoff, true), contains(versions.get(2)));
+    }
+
+    @Test
+    void deleteMarkers() {
+        PruneVersions.Version marker = version("m", 1, true, true);
+
+        assertThat(PruneVersions.expired(java.util.List.of(marker), 1, null, true), contains(marker));
+        assertThat(PruneVersions.expired(java.util.List.of(marker), 1, null, false), empty());
+
+        // the marker still hides an older version, it is only removed once alone
+        java.util.List<PruneVersions.Version> versions = java.util.List.of(marker, version("v1", 10, false, false));
+        assertThat(PruneVersions.expired(versions, 1, null, true), contains(versions.get(1)));
+    }
+
+    @Test
+    void deleteMarkerListedLast() {
+        // a page lists its versions before its delete markers
+        PruneVersions.Version marker = version("m", 1, true, true);
+        java.util.List<PruneVersions.Version> versions = java.util.List.of(
+            version("v2", 10, false, false),
+            version("v1", 20, false, false),
+            marker
+        );
+
+        assertThat(PruneVersions.expired(versions, 1, null, true), contains(versions.get(0), versions.get(1)));
+        assertThat(PruneVersions.expired(versions, 2, null, true), contains(versions.get(1)));
+    }
+
+    @Test
+    void deleteMarkerKeptOverKeptVersion() {
+        PruneVersions.Version marker = version("m2", 2, false, true);
+        java.util.List<PruneVersions.Version> versions = java.util.List.of(
+            version("v3", 1, true, false),
+            version("v1", 10, false, false),
+            marker
+        );
+
+        // v1 is noncurrent for 2 days only, so the delete marker written over it is kept too
+        Instant cutoff = NOW.minus(Duration.ofDays(5));
+        assertThat(PruneVersions.expired(versions, 1, cutoff, true), empty());
+        assertThat(PruneVersions.expired(versions, 1, null, true), contains(marker, versions.get(1)));
+    }
+
+    @Test
+    void pages() {
+        PruneVersions.Version a = version("a", "a1", 1, true, false);
+        PruneVersions.Version b1 = version("b", "b1", 10, false, false);
+        PruneVersions.Version bMarker = version("b", "b2", 1, true, true);
+        PruneVersions.Version c2 = version("c", "c2", 1, true, false);
+        PruneVersions.Version c1 = version("c", "c1", 10, false, false);
+
+        // the versions of the last key may continue on the next page
+        PruneVersions.Page first = PruneVersions.Page.of(java.util.List.of(), java.util.List.of(a, b1, c2, bMarker), true, "c", "c2");
+        assertThat(first.keys(), contains(java.util.List.of(a), java.util.List.of(b1, bMarker)));
+        assertThat(first.pending(), contains(c2));
+
+        PruneVersions.Page last = PruneVersions.Page.of(first.pending(), java.util.List.of(c1), false, null, null);
+        assertThat(last.keys(), contains(java.util.List.of(c2, c1)));
+        assertThat(last.pending(), empty());
+    }
+
+    private void put(MinioClient client, String key, String content) throws Exception {
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        client.putObject(PutObjectArgs.builder().bucket(this.BUCKET).object(key).data(bytes, bytes.length).build());
+    }
+
+    private long versions(MinioClient client, String key) {
+        Iterable<Result<Item>> versions = client.listObjects(ListObjectsArgs.builder().bucket(this.BUCKET).prefix(key).includeVersions(true).build());
+
+        return StreamSupport.stream(versions.spliterator(), false).count();
+    }
+
+    private java.util.List<String> current(MinioClient client) throws Exception {
+        java.util.List<String> keys = new ArrayList<>();
+        for (Result<Item> result : client.listObjects(ListObjectsArgs.builder().bucket(this.BUCKET).build())) {
+            keys.add(result.get().objectName());
+        }
+
+        return keys;
+    }
+
+    private static PruneVersions.Version version(String versionId, int daysAgo, boolean latest, boolean deleteMarker) {
+        return version("key", versionId, daysAgo, latest, deleteMarker);
+    }
+
+    private static PruneVersions.Version version(String key, String versionId, int daysAgo, boolean latest, boolean deleteMarker) {
+        return new PruneVersions.Version(key, versionId, NOW.minus(Duration.ofDays(daysAgo)), latest, deleteMarker);
+    }
+}
@@ -0,0 +1,68 @@
+package io.kestra.plugin.minio;
+
+import org.junit.jupiter.api.Test;
+
+import io.kestra.core.models.property.Property;
+import io.kestra.core.utils.IdUtils;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+
+public class SummarizeTest extends AbstractMinIoTest {
+
+    @Test
+    void run() throws Exception {
+        this.createBucket();
+
+        String dir = IdUtils.create();
+        for (int i = 0; i < 3; i++) {
+            upload("/tasks/%s/a".formatted(dir));
+        }
+        upload("/tasks/%s/b/sub".formatted(dir));
+        upload("/tasks/%s".formatted(dir));
+
+        long fileSize = file().length();
+
+        Summarize task = Summarize.builder()
+            .id(SummarizeTest.class.getSimpleName())
+            .type(Summarize.class.getName())
+            .bucket(Property.ofValue(this.BUCKET))
+            .endpoint(Property.ofValue(minIOContainer.getS3URL()))
+            .accessKeyId(Property.ofValue(minIOContainer.getUserName()))
+            .secretKeyId(Property.ofValue(minIOContainer.getPassword()))
+            .prefix(Property.ofValue("tasks/%s/".formatted(dir)))
+            .histogram(Property.ofValue(java.util.List.of(1L, fileSize + 1)))
+            .build();
+        Summarize.Output output = task.run(runContext(task));
+
+        assertThat(output.getTotal().getCount(), is(5L));
+        assertThat(output.getTotal().getSize(), is(5 * fileSize));
+        assertThat(output.getTotal().getHistogram(), hasEntry("[1, " + (fileSize + 1) + ")", 5L));
+        assertThat(output.getTotal().getOldest(), notNullValue());
+        assertThat(output.getPrefixes().size(), is(3));
+
+        Summarize.Usage first = output.getPrefixes().getFirst();
+        assertThat(first.getPrefix(), is("tasks/%s/".formatted(dir)));
+        assertThat(first.getCount(), is(1L));
+
+        Summarize.Usage a = output.getPrefixes().get(1);
+        assertThat(a.getPrefix(), is("tasks/%s/a/".formatted(dir)));
+        assertThat(a.getCount(), is(3L));
+        assertThat(a.getSize(), is(3 * fileSize));
+
+        assertThat(output.getPrefixes().get(2).getPrefix(), is("tasks/%s/b/".formatted(dir)));
+    }
+
+    @Test
+    void group() {
+        assertThat(Summarize.group("logs/", "logs/2024/01/a.csv", "/", 0), is("logs/"));
+        assertThat(Summarize.group("logs/", "logs/2024/01/a.csv", "/", 1), is("logs/2024/"));
+        assertThat(Summarize.group("logs/", "logs/2024/01/a.csv", "/", 2), is("logs/2024/01/"));
+        assertThat(Summarize.group("logs/", "logs/2024/01/a.csv", "/", 5), is("logs/2024/01/"));
+        assertThat(Summarize.group("logs/", "logs/a.csv", "/", 1), is("logs/"));
+        assertThat(Summarize.group("", "a/b.csv", "/", 1), is("a/"));
+    }
+
+}
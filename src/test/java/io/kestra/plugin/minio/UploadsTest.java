@@ -1,15 +1,42 @@
 package io.kestra.plugin.minio;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.zip.GZIPInputStream;
 
+import org.apache.commons.codec.digest.DigestUtils;
 import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.utility.DockerImageName;
 
 import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.serializers.FileSerde;
+import io.kestra.core.serializers.JacksonMapper;
+import io.kestra.core.tenant.TenantService;
 import io.kestra.core.utils.IdUtils;
 
+import io.minio.CreateMultipartUploadArgs;
+import io.minio.ListMultipartUploadsArgs;
+import io.minio.MinioAsyncClient;
+import io.minio.UploadPartArgs;
+import io.minio.messages.ListMultipartUploadsResult;
+import io.minio.messages.Part;
+
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class UploadsTest extends AbstractMinIoTest {
 
@@ -92,4 +119,511 @@ public class UploadsTest extends AbstractMinIoTest {
         assertThat(listOutput.getObjects().size(), is(1));
         assertThat(listOutput.getObjects().getFirst().getKey(), containsString("file.json"));
     }
+
+    @Test
+    void resumable() throws Exception {
+        this.createBucket();
+
+        byte[] content = new byte[12 * 1024 * 1024];
+        new Random(42).nextBytes(content);
+        URI source = storageInterface.put(
+            TenantService.MAIN_TENANT,
+            null,
+            new URI("/" + IdUtils.create() + ".bin"),
+            new ByteArrayInputStream(content)
+        );
+
+        String key = IdUtils.create() + "/large.bin";
+
+        Upload upload = Upload.builder()
+            .id(IdUtils.create())
+            .type(Upload.class.getName())
+            .bucket(Property.ofValue(this.BUCKET))
+            .endpoint(Property.ofValue(minIOContainer.getS3URL()))
+            .accessKeyId(Property.ofValue(minIOContainer.getUserName()))
+            .secretKeyId(Property.ofValue(minIOContainer.getPassword()))
+            .region(Property.ofValue(minIOContainer.getRegion()))
+            .from(source.toString())
+            .key(Property.ofValue(key))
+            .resumable(Property.ofValue(true))
+            .partSize(Property.ofValue(5L * 1024 * 1024))
+            .build();
+
+        upload.run(runContext(upload));
+
+        List.Output output = list().prefix(Property.ofValue(key)).build().run(runContext(upload));
+        assertThat(output.getObjects().size(), is(1));
+        assertThat(output.getObjects().getFirst().getSize(), is((long) content.length));
+    }
+
+    @Test
+    void resumeFromCheckpoint() throws Exception {
+        this.createBucket();
+
+        byte[] content = new byte[12 * 1024 * 1024];
+        new Random(42).nextBytes(content);
+        URI source = new URI("/" + IdUtils.create() + ".bin");
+        String key = IdUtils.create() + "/large.bin";
+
+        Upload upload = resumableUpload(source, key);
+        RunContext runContext = runContext(upload);
+
+        // the first part on the server differs from the source, so the object shows whether it was sent again
+        byte[] sent = zeroFirstPart(content);
+        seedCheckpoint(runContext, upload, source, key, content, sent, Instant.now());
+
+        upload.run(runContext);
+
+        assertThat(downloaded(key), is(sent));
+        assertThat(runContext.namespaceKv(runContext.flowInfo().namespace()).getValue(ResumableUpload.kvKey(runContext, upload.getId(), this.BUCKET, key)).isPresent(), is(false));
+    }
+
+    @Test
+    void dropChangedCheckpoint() throws Exception {
+        this.createBucket();
+
+        byte[] content = new byte[12 * 1024 * 1024];
+        new Random(42).nextBytes(content);
+        URI source = new URI("/" + IdUtils.create() + ".bin");
+        String key = IdUtils.create() + "/large.bin";
+
+        Upload upload = resumableUpload(source, key);
+        RunContext runContext = runContext(upload);
+
+        seedCheckpoint(runContext, upload, source, key, content, content, Instant.now());
+
+        // a source rewritten with the same size where it was already sent is uploaded again from the first part
+        byte[] changed = zeroFirstPart(content);
+        storageInterface.put(TenantService.MAIN_TENANT, null, source, new ByteArrayInputStream(changed));
+
+        upload.run(runContext);
+
+        assertThat(downloaded(key), is(changed));
+    }
+
+    @Test
+    void dropExpiredCheckpoint() throws Exception {
+        this.createBucket();
+
+        byte[] content = new byte[12 * 1024 * 1024];
+        new Random(42).nextBytes(content);
+        URI source = new URI("/" + IdUtils.create() + ".bin");
+        String key = IdUtils.create() + "/large.bin";
+
+        Upload upload = resumableUpload(source, key);
+        RunContext runContext = runContext(upload);
+
+        String uploadId = seedCheckpoint(runContext, upload, source, key, content, content, Instant.now().minus(Duration.ofDays(8)));
+
+        byte[] changed = zeroFirstPart(content);
+        storageInterface.put(TenantService.MAIN_TENANT, null, source, new ByteArrayInputStream(changed));
+
+        upload.run(runContext);
+
+        // every part is sent again and the expired upload is aborted
+        assertThat(downloaded(key), is(changed));
+        try (MinioAsyncClient client = upload.asyncClient(runContext)) {
+            ListMultipartUploadsResult uploads = client.listMultipartUploads(
+                ListMultipartUploadsArgs.builder().bucket(this.BUCKET).prefix(key).build()
+            ).get().result();
+            assertThat(uploads.uploads().stream().noneMatch(pending -> pending.uploadId().equals(uploadId)), is(true));
+        }
+    }
+
+    @Test
+    void dropMismatchedCheckpoint() throws Exception {
+        this.createBucket();
+
+        byte[] content = new byte[12 * 1024 * 1024];
+        new Random(42).nextBytes(content);
+        URI source = new URI("/" + IdUtils.create() + ".bin");
+        String key = IdUtils.create() + "/large.bin";
+
+        Upload upload = resumableUpload(source, key);
+        RunContext runContext = runContext(upload);
+
+        seedCheckpoint(runContext, upload, source, key, content, content, Instant.now());
+
+        // a source of another size can't reuse the parts already sent
+        byte[] changed = Arrays.copyOf(zeroFirstPart(content), content.length + 1024);
+        storageInterface.put(TenantService.MAIN_TENANT, null, source, new ByteArrayInputStream(changed));
+
+        upload.run(runContext);
+
+        assertThat(downloaded(key), is(changed));
+    }
+
+    private Upload resumableUpload(URI source, String key) {
+        return Upload.builder()
+            .id(IdUtils.create())
+            .type(Upload.class.getName())
+            .bucket(Property.ofValue(this.BUCKET))
+            .endpoint(Property.ofValue(minIOContainer.getS3URL()))
+            .accessKeyId(Property.ofValue(minIOContainer.getUserName()))
+            .secretKeyId(Property.ofValue(minIOContainer.getPassword()))
+            .region(Property.ofValue(minIOContainer.getRegion()))
+            .from("kestra://" + source.getPath())
+            .key(Property.ofValue(key))
+            .resumable(Property.ofValue(true))
+            .partSize(Property.ofValue(5L * 1024 * 1024))
+            .build();
+    }
+
+    /**
+     * Stores {@code content} at {@code source}, sends the first part of {@code sent} in a new multipart upload and
+     * checkpoints it as an interrupted run of {@code upload} on {@code content} would have.
+     */
+    private String seedCheckpoint(RunContext runContext, Upload upload, URI source, String key, byte[] content, byte[] sent, Instant createdAt) throws Exception {
+        storageInterface.put(TenantService.MAIN_TENANT, null, source, new ByteArrayInputStream(content));
+        int partSize = 5 * 1024 * 1024;
+
+        try (MinioAsyncClient client = upload.asyncClient(runContext)) {
+            String uploadId = client.createMultipartUpload(
+                CreateMultipartUploadArgs.builder().bucket(this.BUCKET).object(key).build()
+            ).get().result().uploadId();
+
+            Part part = client.uploadPart(
+                UploadPartArgs.builder()
+                    .bucket(this.BUCKET)
+                    .object(key)
+                    .uploadId(uploadId)
+                    .partNumber(1)
+                    .data(Arrays.copyOf(sent, partSize), partSize)
+                    .build()
+            ).get().part();
+
+            ResumableUpload.write(
+                runContext.namespaceKv(runContext.flowInfo().namespace()),
+                ResumableUpload.kvKey(runContext, upload.getId(), this.BUCKET, key),
+                new ResumableUpload.Checkpoint(
+                    uploadId,
+                    "kestra://" + source.getPath(),
+                    content.length,
+                    DigestUtils.sha256Hex(content),
+                    partSize,
+                    createdAt,
+                    new TreeMap<>(Map.of(1, part.etag().replace("\"", "")))
+                ),
+                Duration.ofDays(7),
+                this.BUCKET,
+                key
+            );
+
+            return uploadId;
+        }
+    }
+
+    private static byte[] zeroFirstPart(byte[] content) {
+        byte[] changed = content.clone();
+        Arrays.fill(changed, 0, 5 * 1024 * 1024, (byte) 0);
+
+        return changed;
+    }
+
+    private byte[] downloaded(String key) throws Exception {
+        Download download = Download.builder()
+            .id(IdUtils.create())
+            .type(Download.class.getName())
+            .bucket(Property.ofValue(this.BUCKET))
+            .endpoint(Property.ofValue(minIOContainer.getS3URL()))
+            .accessKeyId(Property.ofValue(minIOContainer.getUserName()))
+            .secretKeyId(Property.ofValue(minIOContainer.getPassword()))
+            .region(Property.ofValue(minIOContainer.getRegion()))
+            .key(Property.ofValue(key))
+            .build();
+
+        try (InputStream in = storageInterface.get(TenantService.MAIN_TENANT, null, download.run(runContext(download)).getUri())) {
+            return in.readAllBytes();
+        }
+    }
+
+    @Test
+    void gzip() throws Exception {
+        this.createBucket();
+
+        String content = "id,name\n".repeat(10_000);
+        URI source = storageInterface.put(
+            TenantService.MAIN_TENANT,
+            null,
+            new URI("/" + IdUtils.create() + ".csv"),
+            new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8))
+        );
+
+        Upload upload = Upload.builder()
+            .id(IdUtils.create())
+            .type(Upload.class.getName())
+            .bucket(Property.ofValue(this.BUCKET))
+            .endpoint(Property.ofValue(minIOContainer.getS3URL()))
+            .accessKeyId(Property.ofValue(minIOContainer.getUserName()))
+            .secretKeyId(Property.ofValue(minIOContainer.getPassword()))
+            .region(Property.ofValue(minIOContainer.getRegion()))
+            .from(source.toString())
+            .key(Property.ofValue(IdUtils.create() + "/export.csv"))
+            .compression(Property.ofValue(Upload.Compression.GZIP))
+            .build();
+
+        Upload.Output uploadOutput = upload.run(runContext(upload));
+        assertThat(uploadOutput.getKey(), endsWith("export.csv.gz"));
+
+        Download download = Download.builder()
+            .id(IdUtils.create())
+            .type(Download.class.getName())
+            .bucket(Property.ofValue(this.BUCKET))
+            .endpoint(Property.ofValue(minIOContainer.getS3URL()))
+            .accessKeyId(Property.ofValue(minIOContainer.getUserName()))
+            .secretKeyId(Property.ofValue(minIOContainer.getPassword()))
+            .region(Property.ofValue(minIOContainer.getRegion()))
+            .key(Property.ofValue(uploadOutput.getKey()))
+            .build();
+
+        Download.Output downloadOutput = download.run(runContext(download));
+        assertThat(downloadOutput.getContentLength(), lessThan((long) content.length()));
+
+        try (InputStream in = new GZIPInputStream(storageInterface.get(TenantService.MAIN_TENANT, null, downloadOutput.getUri()))) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8), is(content));
+        }
+    }
+
+    @Test
+    void skipIfUnchanged() throws Exception {
+        this.createBucket();
+
+        String key = IdUtils.create() + "/file.yml";
+
+        assertThat(skipped(skipIfUnchangedUpload(storagePut(null), key)), is(0.0));
+        assertThat(skipped(skipIfUnchangedUpload(storagePut(null), key)), is(1.0));
+
+        URI changed = storageInterface.put(
+            TenantService.MAIN_TENANT,
+            null,
+            new URI("/" + IdUtils.create()),
+            new ByteArrayInputStream("changed".getBytes(StandardCharsets.UTF_8))
+        );
+        assertThat(skipped(skipIfUnchangedUpload(changed, key)), is(0.0));
+        assertThat(new String(downloaded(key), StandardCharsets.UTF_8), is("changed"));
+    }
+
+    /**
+     * Uploads {@code source} to {@code key} with {@code skipIfUnchanged}, returning the run context holding the metrics.
+     */
+    private RunContext skipIfUnchangedUpload(URI source, String key) throws Exception {
+        Upload upload = Upload.builder()
+            .id(IdUtils.create())
+            .type(Upload.class.getName())
+            .bucket(Property.ofValue(this.BUCKET))
+            .endpoint(Property.ofValue(minIOContainer.getS3URL()))
+            .accessKeyId(Property.ofValue(minIOContainer.getUserName()))
+            .secretKeyId(Property.ofValue(minIOContainer.getPassword()))
+            .region(Property.ofValue(minIOContainer.getRegion()))
+            .from(source.toString())
+            .key(Property.ofValue(key))
+            .skipIfUnchanged(Property.ofValue(true))
+            .build();
+
+        RunContext runContext = runContext(upload);
+        upload.run(runContext);
+
+        return runContext;
+    }
+
+    private static double skipped(RunContext runContext) {
+        return runContext.metrics().stream()
+            .filter(metric -> metric.getName().equals("file.skipped.count"))
+            .mapToDouble(metric -> ((Number) metric.getValue()).doubleValue())
+            .sum();
+    }
+
+    @Test
+    void fromMap() throws Exception {
+        this.createBucket();
+
+        URI source1 = storagePut("a.yml");
+        URI source2 = storagePut("b.yml");
+
+        Upload upload = Upload.builder()
+            .id(IdUtils.create())
+            .type(Upload.class.getName())
+            .bucket(Property.ofValue(this.BUCKET))
+            .endpoint(Property.ofValue(minIOContainer.getS3URL()))
+            .accessKeyId(Property.ofValue(minIOContainer.getUserName()))
+            .secretKeyId(Property.ofValue(minIOContainer.getPassword()))
+            .region(Property.ofValue(minIOContainer.getRegion()))
+            .from(java.util.Map.of("first.yml", source1.toString(), "second.yml", source2.toString()))
+            .key(Property.ofValue(IdUtils.create()))
+            .build();
+        var result = upload.run(runContext(upload));
+
+        List.Output output = list().prefix(Property.ofValue(result.getKey())).build().run(runContext(upload));
+        assertThat(output.getObjects().size(), is(2));
+        assertThat(output.getObjects().stream().filter(object -> object.getKey().endsWith("first.yml")).count(), is(1L));
+    }
+
+    @Test
+    void fromJsonArray() throws Exception {
+        this.createBucket();
+
+        String from = JacksonMapper.ofJson().writeValueAsString(java.util.List.of(
+            storagePut("1.yml").toString(),
+            storagePut("2.yml").toString(),
+            storagePut("3.yml").toString()
+        ));
+
+        Upload upload = Upload.builder()
+            .id(IdUtils.create())
+            .type(Upload.class.getName())
+            .bucket(Property.ofValue(this.BUCKET))
+            .endpoint(Property.ofValue(minIOContainer.getS3URL()))
+            .accessKeyId(Property.ofValue(minIOContainer.getUserName()))
+            .secretKeyId(Property.ofValue(minIOContainer.getPassword()))
+            .region(Property.ofValue(minIOContainer.getRegion()))
+            .from(from)
+            .key(Property.ofValue(IdUtils.create() + "/"))
+            .build();
+        var result = upload.run(runContext(upload));
+
+        List.Output output = list().prefix(Property.ofValue(result.getKey())).build().run(runContext(upload));
+        assertThat(output.getObjects().size(), is(3));
+        for (String name : java.util.List.of("1.yml", "2.yml", "3.yml")) {
+            assertThat(output.getObjects().stream().filter(object -> object.getKey().endsWith(name)).count(), is(1L));
+        }
+    }
+
+    @Test
+    void storedIonUploadedAsIs() throws Exception {
+        this.createBucket();
+
+        ByteArrayOutputStream rows = new ByteArrayOutputStream();
+        FileSerde.write(rows, Map.of("id", 1));
+        URI stored = storageInterface.put(
+            TenantService.MAIN_TENANT,
+            null,
+            new URI("/" + IdUtils.create() + ".ion"),
+            new ByteArrayInputStream(rows.toByteArray())
+        );
+
+        String key = IdUtils.create() + "/result.ion";
+        Upload upload = Upload.builder()
+            .id(IdUtils.create())
+            .type(Upload.class.getName())
+            .bucket(Property.ofValue(this.BUCKET))
+            .endpoint(Property.ofValue(minIOContainer.getS3URL()))
+            .accessKeyId(Property.ofValue(minIOContainer.getUserName()))
+            .secretKeyId(Property.ofValue(minIOContainer.getPassword()))
+            .region(Property.ofValue(minIOContainer.getRegion()))
+            .from(stored.toString())
+            .key(Property.ofValue(key))
+            .build();
+        upload.run(runContext(upload));
+
+        assertThat(downloaded(key), is(rows.toByteArray()));
+    }
+
+    @Test
+    void fromStoredList() throws Exception {
+        this.createBucket();
+
+        ByteArrayOutputStream rows = new ByteArrayOutputStream();
+        for (String name : java.util.List.of("1.yml", "2.yml", "3.yml")) {
+            FileSerde.write(rows, storagePut(name).toString());
+        }
+        URI stored = storageInterface.put(
+            TenantService.MAIN_TENANT,
+            null,
+            new URI("/" + IdUtils.create() + ".ion"),
+            new ByteArrayInputStream(rows.toByteArray())
+        );
+
+        Upload upload = Upload.builder()
+            .id(IdUtils.create())
+            .type(Upload.class.getName())
+            .bucket(Property.ofValue(this.BUCKET))
+            .endpoint(Property.ofValue(minIOContainer.getS3URL()))
+            .accessKeyId(Property.ofValue(minIOContainer.getUserName()))
+            .secretKeyId(Property.ofValue(minIOContainer.getPassword()))
+            .region(Property.ofValue(minIOContainer.getRegion()))
+            .from(stored.toString())
+            .fromList(Property.ofValue(true))
+            .key(Property.ofValue(IdUtils.create() + "/"))
+            .build();
+        var result = upload.run(runContext(upload));
+
+        List.Output output = list().prefix(Property.ofValue(result.getKey())).build().run(runContext(upload));
+        assertThat(output.getObjects().size(), is(3));
+        assertThat(output.getObjects().stream().filter(object -> object.getKey().endsWith("2.yml")).count(), is(1L));
+    }
+
+    @Test
+    void snowball() throws Exception {
+        // only MinIO itself extracts the archives into objects
+        try (GenericContainer<?> minio = new GenericContainer<>(DockerImageName.parse("minio/minio:latest"))
+            .withEnv("MINIO_ROOT_USER", "testuser")
+            .withEnv("MINIO_ROOT_PASSWORD", "testpassword")
+            .withCommand("server", "/data")
+            .withExposedPorts(9000)
+            .waitingFor(Wait.forHttp("/minio/health/live").forPort(9000))) {
+            minio.start();
+            String endpoint = "http://" + minio.getHost() + ":" + minio.getMappedPort(9000);
+
+            CreateBucket createBucket = CreateBucket.builder()
+                .id(IdUtils.create())
+                .type(CreateBucket.class.getName())
+                .endpoint(Property.ofValue(endpoint))
+                .accessKeyId(Property.ofValue("testuser"))
+                .secretKeyId(Property.ofValue("testpassword"))
+                .bucket(Property.ofValue(this.BUCKET))
+                .build();
+            createBucket.run(runContext(createBucket));
+
+            Upload upload = Upload.builder()
+                .id(IdUtils.create())
+                .type(Upload.class.getName())
+                .bucket(Property.ofValue(this.BUCKET))
+                .endpoint(Property.ofValue(endpoint))
+                .accessKeyId(Property.ofValue("testuser"))
+                .secretKeyId(Property.ofValue("testpassword"))
+                .from(java.util.List.of(storagePut("1.yml").toString(), storagePut("2.yml").toString(), storagePut("3.yml").toString()))
+                .key(Property.ofValue(IdUtils.create()))
+                .snowball(Upload.Snowball.builder()
+                    .batchSize(Property.ofValue(2))
+                    .compression(Property.ofValue(true))
+                    .build()
+                )
+                .build();
+            var result = upload.run(runContext(upload));
+
+            List list = List.builder()
+                .id(IdUtils.create())
+                .type(List.class.getName())
+                .bucket(Property.ofValue(this.BUCKET))
+                .endpoint(Property.ofValue(endpoint))
+                .accessKeyId(Property.ofValue("testuser"))
+                .secretKeyId(Property.ofValue("testpassword"))
+                .prefix(Property.ofValue(result.getKey()))
+                .build();
+
+            List.Output output = list.run(runContext(list));
+            assertThat(output.getObjects().size(), is(3));
+            assertThat(output.getObjects().stream().filter(object -> object.getKey().endsWith("2.yml")).count(), is(1L));
+            assertThat(output.getObjects().getFirst().getSize(), is(file().length()));
+        }
+    }
+
+    @Test
+    void snowballCompression() throws Exception {
+        Upload upload = Upload.builder()
+            .id(IdUtils.create())
+            .type(Upload.class.getName())
+            .bucket(Property.ofValue(this.BUCKET))
+            .endpoint(Property.ofValue(minIOContainer.getS3URL()))
+            .accessKeyId(Property.ofValue(minIOContainer.getUserName()))
+            .secretKeyId(Property.ofValue(minIOContainer.getPassword()))
+            .region(Property.ofValue(minIOContainer.getRegion()))
+            .from(java.util.List.of(storagePut("1.yml").toString(), storagePut("2.yml").toString()))
+            .key(Property.ofValue(IdUtils.create()))
+            .compression(Property.ofValue(Upload.Compression.GZIP))
+            .snowball(Upload.Snowball.builder().build())
+            .build();
+
+        assertThrows(IllegalArgumentException.class, () -> upload.run(runContext(upload)));
+    }
 }